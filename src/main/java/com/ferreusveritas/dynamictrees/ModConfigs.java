@@ -2,6 +2,7 @@ package com.ferreusveritas.dynamictrees;
 
 
 import com.ferreusveritas.dynamictrees.blocks.BlockBranch.EnumAxeDamage;
+import com.ferreusveritas.dynamictrees.blocks.BranchLevelOfDetail;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 
@@ -40,6 +41,7 @@ public class ModConfigs {
 	public static boolean dirtBucketPlacesDirt;
 	public static boolean enableAltLeavesSnow;
 	public static int boneMealGrowthPulses;
+	public static int maxFutureBreaksPerTick;
 
 	public static boolean replaceVanillaSapling;
 
@@ -48,14 +50,24 @@ public class ModConfigs {
 	public static boolean worldGen;
 	public static boolean vanillaCactusWorldGen;
 	public static HashSet<Integer> dimensionBlacklist = new HashSet<Integer>();
+	public static boolean worldGenSelectionCache;
+	public static int pregenChunksPerTick;
+	public static float pregenMaxTickMillis;
 
 	public static boolean fancyThickRings;
+	public static int branchLodDistance;
+	public static boolean thickRingTextureCache;
+	public static int fallingTreeModelCacheQuads;
 
 	public static boolean worldGenDebug;
+	public static boolean enableMetrics;
+	public static int metricsDumpInterval;
+	public static String metricsDumpFormat;
 
 	public static boolean enableSeasonalSeedDropFactor;
 	public static boolean enableSeasonalGrowthFactor;
 	public static boolean enableSeasonalFruitProductionFactor;
+	public static boolean fastLeafDecayCompat;
 	
 	public static void preInit(FMLPreInitializationEvent event) {
 
@@ -95,6 +107,7 @@ public class ModConfigs {
 		dirtBucketPlacesDirt = config.getBoolean("dirtBucketPlacesDirt", "interaction", true, "If enabled the Dirt Bucket will place a dirt block on right-click");
 		enableAltLeavesSnow = config.getBoolean("enableAltLeavesSnow", "interaction", false, "If enabled then an alternate(non-vanilla) snow layer block will be used on top of leaves");
 		boneMealGrowthPulses = config.getInt("boneMealGrowthPulses", "interaction", 1, 1, 512, "The amount of growth pulses to send when bone meal is applied to a tree. Setting values higher than 64 is not recommended other than for testing purposes.");
+		maxFutureBreaksPerTick = config.getInt("maxFutureBreaksPerTick", "interaction", 0, 0, 4096, "The maximum number of harvested trees that will be broken per world per tick. Excess breaks are deferred to following ticks. 0 = unlimited");
 
 		//Vanilla
 		replaceVanillaSapling = config.getBoolean("replaceVanillaSapling", "vanilla", false, "Right clicking with a vanilla sapling places a dynamic sapling instead.");
@@ -104,6 +117,9 @@ public class ModConfigs {
 		roofedForestMushroomGen = config.getBoolean("roofedForestMushroomGen", "world", true, "Generate giant mushrooms in roofed forests.");
 		worldGen = config.getBoolean("worldGen", "world", true, "World Generation produces Dynamic Trees instead of Vanilla trees.");
 		vanillaCactusWorldGen = config.getBoolean("vanillaCactusWorldGen", "world", false, "World Generation produces Vanilla cactus as well as Dynamic cactus if world gen replacement is enabled.");
+		worldGenSelectionCache = config.getBoolean("worldGenSelectionCache", "world", true, "Cache the biomes selected by each worldgen json file in config/dynamictrees/cache to speed up loading. The cache is rebuilt automatically when the json files, biomes or mods change.");
+		pregenChunksPerTick = config.getInt("pregenChunksPerTick", "world", 2, 1, 64, "Number of chunks generated per tick by /dt pregen");
+		pregenMaxTickMillis = config.getFloat("pregenMaxTickMillis", "world", 40.0f, 0.0f, 1000.0f, "/dt pregen holds off while the average server tick takes longer than this many milliseconds. 0 = never hold off");
 		String[] dims = config.getStringList("dimensionsBlacklist", "world", new String[]{"7"}, "Blacklist of dimension numbers for disabling Dynamic Tree worldgen");
 
 		for (String dim : dims) {
@@ -117,14 +133,24 @@ public class ModConfigs {
 
 		//Client
 		fancyThickRings = config.getBoolean("fancyThickRings", "client", true, "Rings of thick trees are rendered using a texture created with an expanded tangram construction technique. Otherwise the ring texture is simply stretched");
+		branchLodDistance = config.getInt("branchLodDistance", "client", 0, 0, 1024, "Branches farther than this many blocks from the viewer are drawn with simplified geometry. Twigs are hidden, branches are drawn as a single box and thick trunks as plain boxes. Values below 32 are raised to 32 since a chunk section has to fit within the distance to be drawn in full again. 0 = disabled");
+		if (branchLodDistance > 0) {
+			branchLodDistance = Math.max(branchLodDistance, BranchLevelOfDetail.MINDISTANCE);
+		}
+		thickRingTextureCache = config.getBoolean("thickRingTextureCache", "client", true, "Cache the generated thick ring textures in config/dynamictrees/cache so they don't have to be generated again on the next launch. Entries are matched to the exact pixels of their source texture.");
+		fallingTreeModelCacheQuads = config.getInt("fallingTreeModelCacheQuads", "client", 262144, 4096, 16777216, "The most quads the models of falling trees may hold altogether. The least recently drawn models are dropped beyond this and rebuilt if they're needed again. Usage is shown on the F3 screen.");
 
 		//Debug
 		worldGenDebug = config.getBoolean("worldGenDebug", "debug", false, "Enable to mark tree spawn locations with wool circles.");
+		enableMetrics = config.getBoolean("enableMetrics", "debug", false, "Enable to collect counts and timings of tree growth, aging, rot, analysis, felling and worldgen. Viewable with /dt stats");
+		metricsDumpInterval = config.getInt("metricsDumpInterval", "debug", 0, 0, 72000, "Ticks between appending collected metrics to config/dynamictrees/metrics.csv (or .json). 0 = disabled");
+		metricsDumpFormat = config.getString("metricsDumpFormat", "debug", "csv", "The format of the periodic metrics dump. Either csv or json", new String[]{"csv", "json"});
 
 		// Serene seasons integration options. At some point this may be made fully configurable via json files. 
 		enableSeasonalSeedDropFactor = config.getBoolean("enableSeasonalSeedDropFactor", "integration", true, "If enabled, seed drop rates will be multiplied based on the current season (requires serene seasons).");
 		enableSeasonalGrowthFactor = config.getBoolean("enableSeasonalGrowthFactor", "integration", true, "If enabled, growth rates will be multiplied based on the current season (requires serene seasons).");
 		enableSeasonalFruitProductionFactor = config.getBoolean("enableSeasonalFruitProductionFactor", "integration", true, "If enabled, fruit production rates will be multiplied based on the current season (requires serene seasons).");
+		fastLeafDecayCompat = config.getBoolean("fastLeafDecayCompat", "integration", true, "If enabled, neighbor updates next to dynamic leaves are suppressed to prevent them being decayed by the FastLeafDecay mod. Has no effect if FastLeafDecay isn't installed.");
 
 		config.save();
 	}
@@ -120,6 +120,9 @@ public class WorldGenRegistry {
 			//Blacklist certain dimensions according to the base config
 			ModConfigs.dimensionBlacklist.forEach(d -> TreeGenerator.getTreeGenerator().BlackListDimension(d));
 
+			//Flatten the spliced species selectors now that nothing else will be added
+			TreeGenerator.getTreeGenerator().compileBiomeDataBases();
+
 			//Cleanup all of the unused static objects
 			BiomeDataBasePopulatorJson.cleanup();
 		}
@@ -1,6 +1,8 @@
 package com.ferreusveritas.dynamictrees.api.cells;
 
+import com.ferreusveritas.dynamictrees.cells.LeafClusters;
 import com.ferreusveritas.dynamictrees.util.SimpleVoxmap;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
 
 public interface ICellKit {
 
@@ -15,6 +17,13 @@ public interface ICellKit {
 	 */
 	SimpleVoxmap getLeafCluster();
 
+	/**
+	 * The non-zero cells of the leaf cluster.  Cheaper to stamp and iterate than the dense map.
+	 */
+	default SparseVoxmap getSparseLeafCluster() {
+		return LeafClusters.getSparse(getLeafCluster());
+	}
+
 	/**
 	 * The default hydration level of a newly created leaf block [default = 4]
 	 **/
@@ -67,6 +67,16 @@ public interface ILeavesProperties {
 	@SideOnly(Side.CLIENT)
 	int foliageColorMultiplier(IBlockState state, IBlockAccess world, BlockPos pos);
 
+	/**
+	 * Allows the foliage color to be sampled once per block column of a chunk section and shared by all the leaves in
+	 * it.  Only return true if the color doesn't depend on the leaves state or on the exact height of the leaves.
+	 * [default = false]
+	 */
+	@SideOnly(Side.CLIENT)
+	default boolean isFoliageColorCacheable() {
+		return false;
+	}
+
 	/**
 	 * Allows the leaves to perform a specific needed behavior or to optionally cancel the update
 	 *
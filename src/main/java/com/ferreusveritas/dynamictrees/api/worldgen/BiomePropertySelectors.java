@@ -41,6 +41,9 @@ public class BiomePropertySelectors {
 	 */
 	public static class SpeciesSelection {
 
+		/** A shared immutable unhandled selection so that selectors need not allocate one per call */
+		public static final SpeciesSelection UNHANDLED = new SpeciesSelection();
+
 		private final boolean handled;
 		private final Species species;
 
@@ -77,7 +80,11 @@ public class BiomePropertySelectors {
 		}
 
 		public StaticSpeciesSelector() {
-			this(new SpeciesSelection());
+			this(SpeciesSelection.UNHANDLED);
+		}
+
+		public SpeciesSelection getDecision() {
+			return decision;
 		}
 
 		@Override
@@ -104,6 +111,10 @@ public class BiomePropertySelectors {
 		ArrayList<Entry> decisionTable = new ArrayList<Entry>();
 		int totalWeight;
 
+		//Flattened lookup table.  Rebuilt lazily whenever an entry is added.
+		private int[] cumulativeWeights;
+		private SpeciesSelection[] decisions;
+
 		public int getSize() {
 			return decisionTable.size();
 		}
@@ -111,28 +122,67 @@ public class BiomePropertySelectors {
 		public RandomSpeciesSelector add(@Nonnull Species species, int weight) {
 			decisionTable.add(new Entry(new SpeciesSelection(species), weight));
 			totalWeight += weight;
+			decisions = null;
 			return this;
 		}
 
 		public RandomSpeciesSelector add(int weight) {
-			decisionTable.add(new Entry(new SpeciesSelection(), weight));
+			decisionTable.add(new Entry(SpeciesSelection.UNHANDLED, weight));
 			totalWeight += weight;
+			decisions = null;
 			return this;
 
 		}
 
+		/**
+		 * @return true if every possible outcome of this selector is a handled selection
+		 */
+		public boolean isAlwaysHandled() {
+			for (Entry entry : decisionTable) {
+				if (entry.weight > 0 && !entry.decision.isHandled()) {
+					return false;
+				}
+			}
+			return !decisionTable.isEmpty();
+		}
+
+		private void buildTable() {
+			int size = decisionTable.size();
+			int[] cumulative = new int[size];
+			SpeciesSelection[] table = new SpeciesSelection[size];
+			int sum = 0;
+			for (int i = 0; i < size; i++) {
+				Entry entry = decisionTable.get(i);
+				sum += entry.weight;
+				cumulative[i] = sum;
+				table[i] = entry.decision;
+			}
+			cumulativeWeights = cumulative;
+			decisions = table;
+		}
+
 		@Override
 		public SpeciesSelection getSpecies(BlockPos pos, IBlockState dirt, Random random) {
+			if (decisions == null) {
+				buildTable();
+			}
+
 			int chance = random.nextInt(totalWeight);
 
-			for (Entry entry : decisionTable) {
-				if (chance < entry.weight) {
-					return entry.decision;
+			//Binary search for the first entry whose cumulative weight exceeds the chance.  The single draw from
+			//the random number generator is mapped to exactly the same entry as a linear walk of the table.
+			int low = 0;
+			int high = decisions.length - 1;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (chance < cumulativeWeights[mid]) {
+					high = mid;
+				} else {
+					low = mid + 1;
 				}
-				chance -= entry.weight;
 			}
 
-			return decisionTable.get(decisionTable.size() - 1).decision;
+			return decisions[low];
 		}
 
 	}
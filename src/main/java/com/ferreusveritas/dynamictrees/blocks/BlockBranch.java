@@ -6,6 +6,7 @@ import com.ferreusveritas.dynamictrees.api.IFutureBreakable;
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
 import com.ferreusveritas.dynamictrees.api.network.MapSignal;
 import com.ferreusveritas.dynamictrees.api.treedata.ITreePart;
+import com.ferreusveritas.dynamictrees.blocks.properties.UnlistedPropertyBool;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree.DestroyType;
 import com.ferreusveritas.dynamictrees.event.FutureBreak;
@@ -13,12 +14,14 @@ import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeDestroyer;
 import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeExtState;
 import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeNetVolume;
 import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeSpecies;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.trees.TreeFamily;
+import com.ferreusveritas.dynamictrees.util.BitVoxmap;
 import com.ferreusveritas.dynamictrees.util.BlockBounds;
 import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
-import com.ferreusveritas.dynamictrees.util.SimpleVoxmap;
-import com.ferreusveritas.dynamictrees.util.SimpleVoxmap.Cell;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
+import com.google.common.collect.ObjectArrays;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.EnumPushReaction;
 import net.minecraft.block.material.Material;
@@ -45,6 +48,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.Explosion;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import net.minecraftforge.common.property.IExtendedBlockState;
 import net.minecraftforge.common.property.IUnlistedProperty;
 import net.minecraftforge.common.property.Properties;
 
@@ -65,8 +69,14 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 		new Properties.PropertyAdapter<Integer>(PropertyInteger.create("radiuse", 0, 8))
 	};
 
+	public static final UnlistedPropertyBool LOD = new UnlistedPropertyBool("lod");//Set when the branch is far enough from the viewer to be drawn simplified
+
+	public static final IUnlistedProperty[] CONNECTIONS_AND_LOD = ObjectArrays.concat(CONNECTIONS, LOD);
+
 	private TreeFamily tree = TreeFamily.NULLFAMILY; //The tree this branch type creates
 
+	private final BranchConnectionStates connectionStates = new BranchConnectionStates(this);//Shared extended states for rendering
+
 	public BlockBranch(Material material, String name) {
 		super(material);
 		setUnlocalizedName(name);
@@ -78,6 +88,35 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 		return new IProperty<?>[]{};
 	}
 
+	///////////////////////////////////////////
+	// RENDERING
+	///////////////////////////////////////////
+
+	@Override
+	public IBlockState getExtendedState(IBlockState state, IBlockAccess world, BlockPos pos) {
+		if (state instanceof IExtendedBlockState) {
+			int thisRadius = getRadius(state);
+			int connections = 0;
+
+			for (EnumFacing dir : EnumFacing.VALUES) {
+				connections = BranchConnectionStates.pack(connections, dir, getSideConnectionRadius(world, pos, thisRadius, dir));
+			}
+			boolean lod = BranchLevelOfDetail.isEnabled() && connectionStates.hasLevelOfDetail() && BranchLevelOfDetail.isSimplified(pos);
+			return connectionStates.get((IExtendedBlockState) state, connections, lod);
+		}
+
+		return state;
+	}
+
+	/**
+	 * @return The radius of the connection to the neighbor on the given side as the branch model should draw it
+	 */
+	protected int getSideConnectionRadius(IBlockAccess blockAccess, BlockPos pos, int radius, EnumFacing side) {
+		BlockPos deltaPos = pos.offset(side);
+		IBlockState blockState = blockAccess.getBlockState(deltaPos);
+		return TreeHelper.getTreePart(blockState).getRadiusForConnection(blockState, blockAccess, deltaPos, this, side, radius);
+	}
+
 	///////////////////////////////////////////
 	// TREE INFORMATION
 	///////////////////////////////////////////
@@ -237,6 +276,9 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 	 */
 	public BranchDestructionData destroyBranchFromNode(World world, BlockPos cutPos, EnumFacing toolDir, boolean wholeTree) {
 
+		Metrics.BRANCH_DESTRUCTIONS.increment();
+		long timer = Metrics.startTimer();
+
 		IBlockState blockState = world.getBlockState(cutPos);
 		NodeSpecies nodeSpecies = new NodeSpecies();
 		MapSignal signal = analyse(blockState, world, cutPos, null, new MapSignal(nodeSpecies));// Analyze entire tree network to find root node and species
@@ -272,6 +314,8 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 			cutDir = EnumFacing.DOWN;
 		}
 
+		Metrics.DESTROY_TIME.stopTimer(timer);
+
 		return new BranchDestructionData(species, extStateMapper.getExtStateMap(), destroyedLeaves, leavesDropsList, endPoints, volumeSum.getVolume(), cutPos, cutDir, toolDir, trunkHeight);
 	}
 
@@ -304,14 +348,12 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 			BlockBounds bounds = new BlockBounds(endPoints).expand(3);
 
 			//Create a voxmap to store the leaf destruction map
-			SimpleVoxmap vmap = new SimpleVoxmap(bounds);
+			BitVoxmap vmap = new BitVoxmap(bounds);
 
 			//For each of the endpoints add a 7x7 destruction volume around it
 			for (BlockPos endPos : endPoints) {
-				for (BlockPos leafPos : BlockPos.getAllInBoxMutable(endPos.add(-3, -3, -3), endPos.add(3, 3, 3))) {
-					vmap.setVoxel(leafPos, (byte) 1);//Flag this position for destruction
-				}
-				vmap.setVoxel(endPos, (byte) 0);//We know that the endpoint does not have a leaves block in it because it was a branch
+				vmap.fill(endPos.add(-3, -3, -3), endPos.add(3, 3, 3), true);//Flag these positions for destruction
+				vmap.setVoxel(endPos, false);//We know that the endpoint does not have a leaves block in it because it was a branch
 			}
 
 			TreeFamily family = species.getFamily();
@@ -322,9 +364,9 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 			for (MutableBlockPos findPos : bounds.expand(3).iterate()) {
 				IBlockState findState = world.getBlockState(findPos);
 				if (familyBranch.getRadius(findState) == primaryThickness) { //Search for endpoints of the same tree family
-					Iterable<MutableBlockPos> leaves = species.getLeavesProperties().getCellKit().getLeafCluster().getAllNonZero();
-					for (MutableBlockPos leafpos : leaves) {
-						vmap.setVoxel(findPos.getX() + leafpos.getX(), findPos.getY() + leafpos.getY(), findPos.getZ() + leafpos.getZ(), (byte) 0);
+					SparseVoxmap leaves = species.getLeavesProperties().getCellKit().getSparseLeafCluster();
+					for (int i = 0; i < leaves.size(); i++) {
+						vmap.setVoxel(findPos.getX() + leaves.getX(i), findPos.getY() + leaves.getY(i), findPos.getZ() + leaves.getZ(i), false);
 					}
 				}
 			}
@@ -332,8 +374,7 @@ public abstract class BlockBranch extends Block implements ITreePart, IFutureBre
 			ArrayList<ItemStack> dropList = new ArrayList<ItemStack>();
 
 			//Destroy all family compatible leaves
-			for (Cell cell : vmap.getAllNonZeroCells()) {
-				MutableBlockPos pos = cell.getPos();
+			for (MutableBlockPos pos : vmap.getAllSet()) {
 				IBlockState state = world.getBlockState(pos);
 				if (species.isCompatibleLeaves(world, pos, state)) {
 					dropList.clear();
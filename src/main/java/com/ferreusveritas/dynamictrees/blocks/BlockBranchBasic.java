@@ -11,6 +11,7 @@ import com.ferreusveritas.dynamictrees.api.treedata.ITreePart;
 import com.ferreusveritas.dynamictrees.cells.CellMetadata;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.trees.TreeFamily;
 import net.minecraft.block.SoundType;
@@ -29,7 +30,6 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.property.ExtendedBlockState;
-import net.minecraftforge.common.property.IExtendedBlockState;
 
 import java.util.List;
 import java.util.Random;
@@ -80,7 +80,7 @@ public class BlockBranchBasic extends BlockBranch {
 	@Override
 	protected BlockStateContainer createBlockState() {
 		IProperty[] listedProperties = {RADIUS};
-		return new ExtendedBlockState(this, listedProperties, CONNECTIONS);
+		return new ExtendedBlockState(this, listedProperties, CONNECTIONS_AND_LOD);
 	}
 
 	/**
@@ -99,21 +99,6 @@ public class BlockBranchBasic extends BlockBranch {
 		return state.getValue(RADIUS) - 1;
 	}
 
-	@Override
-	public IBlockState getExtendedState(IBlockState state, IBlockAccess world, BlockPos pos) {
-		if (state instanceof IExtendedBlockState) {
-			IExtendedBlockState retval = (IExtendedBlockState) state;
-			int thisRadius = getRadius(state);
-
-			for (EnumFacing dir : EnumFacing.VALUES) {
-				retval = retval.withProperty(CONNECTIONS[dir.getIndex()], getSideConnectionRadius(world, pos, thisRadius, dir));
-			}
-			return retval;
-		}
-
-		return state;
-	}
-
 
 	///////////////////////////////////////////
 	// TREE INFORMATION
@@ -411,11 +396,6 @@ public class BlockBranchBasic extends BlockBranch {
 		return getRadius(state);
 	}
 
-	protected int getSideConnectionRadius(IBlockAccess blockAccess, BlockPos pos, int radius, EnumFacing side) {
-		BlockPos deltaPos = pos.offset(side);
-		IBlockState blockState = blockAccess.getBlockState(deltaPos);
-		return TreeHelper.getTreePart(blockState).getRadiusForConnection(blockState, blockAccess, deltaPos, this, side, radius);
-	}
 
 
 	///////////////////////////////////////////
@@ -451,6 +431,13 @@ public class BlockBranchBasic extends BlockBranch {
 			return signal;
 		}
 
+		Metrics.ANALYSE_NODES.increment();
+		long timer = 0;
+		if (signal.depth == 0) {//The start of a new walk
+			Metrics.ANALYSE_WALKS.increment();
+			timer = Metrics.startTimer();
+		}
+
 		if (signal.depth++ < getMaxSignalDepth()) {// Prevents going too deep into large networks, or worse, being caught in a network loop
 			signal.run(blockState, world, pos, fromDir);// Run the inspectors of choice
 			for (EnumFacing dir : EnumFacing.VALUES) {// Spread signal in various directions
@@ -480,6 +467,7 @@ public class BlockBranchBasic extends BlockBranch {
 			signal.overflow = true;
 		}
 		signal.depth--;
+		Metrics.ANALYSE_TIME.stopTimer(timer);
 
 		return signal;
 	}
@@ -8,6 +8,7 @@ import com.ferreusveritas.dynamictrees.api.network.MapSignal;
 import com.ferreusveritas.dynamictrees.api.treedata.ILeavesProperties;
 import com.ferreusveritas.dynamictrees.api.treedata.ITreePart;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.google.common.base.Predicate;
 import net.minecraft.block.SoundType;
@@ -28,7 +29,6 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.property.ExtendedBlockState;
-import net.minecraftforge.common.property.IExtendedBlockState;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -87,21 +87,6 @@ public class BlockBranchCactus extends BlockBranch {
 		return state.getValue(ORIGIN).getIndex();
 	}
 
-	@Override
-	public IBlockState getExtendedState(IBlockState state, IBlockAccess blockAcess, BlockPos pos) {
-		if (state instanceof IExtendedBlockState) {
-			IExtendedBlockState retval = (IExtendedBlockState) state;
-			int thisRadius = getRadius(state);
-
-			for (EnumFacing dir : EnumFacing.VALUES) {
-				retval = retval.withProperty(CONNECTIONS[dir.getIndex()], getSideConnectionRadius(blockAcess, pos, thisRadius, dir));
-			}
-			return retval;
-		}
-
-		return state;
-	}
-
 	///////////////////////////////////////////
 	// TREE INFORMATION
 	///////////////////////////////////////////
@@ -296,6 +281,7 @@ public class BlockBranchCactus extends BlockBranch {
 		return 0;
 	}
 
+	@Override
 	protected int getSideConnectionRadius(IBlockAccess blockAccess, BlockPos pos, int radius, EnumFacing side) {
 		BlockPos deltaPos = pos.offset(side);
 		IBlockState otherState = blockAccess.getBlockState(deltaPos);
@@ -317,6 +303,12 @@ public class BlockBranchCactus extends BlockBranch {
 	@Override
 	public MapSignal analyse(IBlockState blockState, World world, BlockPos pos, EnumFacing fromDir, MapSignal signal) {
 		// Note: fromDir will be null in the origin node
+		Metrics.ANALYSE_NODES.increment();
+		long timer = 0;
+		if (signal.depth == 0) {//The start of a new walk
+			Metrics.ANALYSE_WALKS.increment();
+			timer = Metrics.startTimer();
+		}
 		if (signal.depth++ < 32) {// Prevents going too deep into large networks, or worse, being caught in a network loop
 			IBlockState state = world.getBlockState(pos);
 			signal.run(blockState, world, pos, fromDir);// Run the inspectors of choice
@@ -347,6 +339,7 @@ public class BlockBranchCactus extends BlockBranch {
 			signal.overflow = true;
 		}
 		signal.depth--;
+		Metrics.ANALYSE_TIME.stopTimer(timer);
 		return signal;
 	}
 
@@ -23,7 +23,6 @@ import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.property.ExtendedBlockState;
-import net.minecraftforge.common.property.IExtendedBlockState;
 
 import java.util.List;
 
@@ -133,7 +132,7 @@ public class BlockBranchThick extends BlockBranchBasic implements IMusable {
 	@Override
 	protected BlockStateContainer createBlockState() {
 		IProperty[] listedProperties = {RADIUSNYBBLE};
-		return new ExtendedBlockState(this, listedProperties, CONNECTIONS);
+		return new ExtendedBlockState(this, listedProperties, CONNECTIONS_AND_LOD);
 	}
 
 	@Override
@@ -146,21 +145,6 @@ public class BlockBranchThick extends BlockBranchBasic implements IMusable {
 		return state.getValue(RADIUSNYBBLE);
 	}
 
-	@Override
-	public IBlockState getExtendedState(IBlockState state, IBlockAccess world, BlockPos pos) {
-		if (state instanceof IExtendedBlockState) {
-			IExtendedBlockState retval = (IExtendedBlockState) state;
-			int thisRadius = getRadius(state);
-
-			for (EnumFacing dir : EnumFacing.VALUES) {
-				retval = retval.withProperty(CONNECTIONS[dir.getIndex()], getSideConnectionRadius(world, pos, thisRadius, dir));
-			}
-			return retval;
-		}
-
-		return state;
-	}
-
 
 	///////////////////////////////////////////
 	// GROWTH
@@ -13,10 +13,13 @@ import com.ferreusveritas.dynamictrees.api.treedata.ITreePart;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
 import com.ferreusveritas.dynamictrees.items.Seed;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.trees.TreeFamily;
 import com.ferreusveritas.dynamictrees.util.IRayTraceCollision;
+import com.ferreusveritas.dynamictrees.util.LeavesSectionTracker;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
 import net.minecraft.block.*;
 import net.minecraft.block.BlockDoublePlant.EnumBlockHalf;
 import net.minecraft.block.BlockDoublePlant.EnumPlantType;
@@ -148,6 +151,7 @@ public class BlockDynamicLeaves extends BlockLeaves implements ITreePart, IAgeab
 	}
 
 	protected void doTick(World worldIn, BlockPos pos, IBlockState state, Random rand) {
+		Metrics.LEAF_TICKS.increment();
 		if (canTickAt(worldIn, pos) && getProperties(state).updateTick(worldIn, pos, state, rand)) {
 			age(worldIn, pos, state, rand, SafeChunkBounds.ANY);
 		}
@@ -219,6 +223,12 @@ public class BlockDynamicLeaves extends BlockLeaves implements ITreePart, IAgeab
 
 	}
 
+	@Override
+	public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state) {
+		super.onBlockAdded(worldIn, pos, state);
+		LeavesSectionTracker.markLeaves(worldIn, pos);
+	}
+
 	@Override
 	public void breakBlock(World worldIn, BlockPos pos, IBlockState state) {
 	}
@@ -573,8 +583,9 @@ public class BlockDynamicLeaves extends BlockLeaves implements ITreePart, IAgeab
 			ArrayList<BlockPos> branchList = new ArrayList<BlockPos>();
 
 			//Find all of the branches that are nearby
-			for (BlockPos dPos : leavesProperties.getCellKit().getLeafCluster().getAllNonZero()) {
-				dPos = pos.add(BlockPos.ORIGIN.subtract(dPos));//Becomes immutable at this point
+			SparseVoxmap leafCells = leavesProperties.getCellKit().getSparseLeafCluster();
+			for (int i = 0; i < leafCells.size(); i++) {
+				BlockPos dPos = pos.add(-leafCells.getX(i), -leafCells.getY(i), -leafCells.getZ(i));
 				IBlockState state = access.getBlockState(dPos);
 				if (TreeHelper.isBranch(state)) {
 					BlockBranch branch = TreeHelper.getBranch(state);
@@ -12,6 +12,7 @@ import com.ferreusveritas.dynamictrees.blocks.MimicProperty.IMimic;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree.DestroyType;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.tileentity.TileEntitySpecies;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.trees.TreeFamily;
@@ -166,6 +167,9 @@ public class BlockRooty extends Block implements ITreePart, ITileEntityProvider,
 
 		if (CoordUtils.isSurroundedByLoadedChunks(world, rootPos)) {
 
+			Metrics.ROOTY_UPDATES.increment();
+			long timer = Metrics.startTimer();
+
 			boolean viable = false;
 
 			Species species = getSpecies(rootyState, world, rootPos);
@@ -184,6 +188,7 @@ public class BlockRooty extends Block implements ITreePart, ITileEntityProvider,
 				world.setBlockState(rootPos, getDecayBlockState(world, rootPos), 3);
 			}
 
+			Metrics.ROOTY_UPDATE_TIME.stopTimer(timer);
 		}
 
 	}
@@ -429,7 +434,7 @@ public class BlockRooty extends Block implements ITreePart, ITileEntityProvider,
 
 	@Override
 	public IBlockState getExtendedState(IBlockState state, IBlockAccess access, BlockPos pos) {
-		return state instanceof IExtendedBlockState ? ((IExtendedBlockState) state).withProperty(MimicProperty.MIMIC, getMimic(access, pos)) : state;
+		return state instanceof IExtendedBlockState ? ((IExtendedBlockState) state).withProperty(MimicProperty.MIMIC, RootyMimicCache.getMimic(this, access, pos)) : state;
 	}
 
 	@Override
@@ -62,7 +62,7 @@ public class BlockRootyDirtFake extends Block implements ITreePart, IMimic {
 
 	@Override
 	public IBlockState getExtendedState(IBlockState state, IBlockAccess access, BlockPos pos) {
-		return state instanceof IExtendedBlockState ? ((IExtendedBlockState) state).withProperty(MimicProperty.MIMIC, getMimic(access, pos)) : state;
+		return state instanceof IExtendedBlockState ? ((IExtendedBlockState) state).withProperty(MimicProperty.MIMIC, RootyMimicCache.getMimic(this, access, pos)) : state;
 	}
 
 	@Override
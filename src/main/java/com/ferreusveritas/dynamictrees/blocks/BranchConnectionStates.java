@@ -0,0 +1,178 @@
+package com.ferreusveritas.dynamictrees.blocks;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.BlockStateContainer;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.common.property.ExtendedBlockState;
+import net.minecraftforge.common.property.IExtendedBlockState;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An intern table of the extended states of a branch block.
+ * <p>
+ * The extended state of a branch is its listed state plus the radius of the connection on each of its 6 sides.
+ * Building one takes a chain of 6 withProperty calls each of which copies the unlisted property map.  Since
+ * extended states are immutable and only a small number of combinations ever occur they are built once and
+ * shared.  Each entry is keyed by the index of the listed state, the level of detail flag and the 6 connection radii
+ * packed 4 bits apiece.
+ * <p>
+ * Lookups don't lock and are safe from the chunk render threads.  New combinations are added under a lock.
+ *
+ * @author ferreusveritas
+ */
+public class BranchConnectionStates {
+
+	private static final int MAXENTRIES = 1 << 16;//Stop interning past this point and just build the states
+
+	private final Block block;
+	private volatile Map<IBlockState, Integer> stateIndices;
+	private volatile AtomicReferenceArray<Entry> table = new AtomicReferenceArray<>(256);
+	private int size = 0;
+	private volatile Boolean hasLevelOfDetail;
+
+	private static class Entry {
+		final int key;
+		final IExtendedBlockState state;
+
+		Entry(int key, IExtendedBlockState state) {
+			this.key = key;
+			this.state = state;
+		}
+	}
+
+	public BranchConnectionStates(Block block) {
+		this.block = block;
+	}
+
+	/**
+	 * Add the radius of a side's connection to a packed set of connections
+	 */
+	public static int pack(int connections, EnumFacing dir, int radius) {
+		return connections | (radius & 15) << (dir.getIndex() << 2);
+	}
+
+	public static int unpack(int connections, EnumFacing dir) {
+		return (connections >>> (dir.getIndex() << 2)) & 15;
+	}
+
+	/**
+	 * @return true if the block's extended states carry the {@link BlockBranch#LOD} property
+	 */
+	public boolean hasLevelOfDetail() {
+		Boolean has = hasLevelOfDetail;
+		if (has == null) {
+			BlockStateContainer container = block.getBlockState();
+			has = container instanceof ExtendedBlockState && ((ExtendedBlockState) container).getUnlistedProperties().contains(BlockBranch.LOD);
+			hasLevelOfDetail = has;
+		}
+		return has;
+	}
+
+	/**
+	 * @param state       The listed state of the branch
+	 * @param connections The packed connection radii
+	 * @param lod         Whether the branch should be drawn with simplified geometry
+	 * @return The extended state with the connection properties set
+	 */
+	public IExtendedBlockState get(IExtendedBlockState state, int connections, boolean lod) {
+		lod &= hasLevelOfDetail();
+
+		int index = getStateIndex(state);
+		if (index < 0) {
+			return build(state, connections, lod);
+		}
+
+		int key = index << 25 | (lod ? 1 << 24 : 0) | connections;
+		AtomicReferenceArray<Entry> entries = table;
+		int mask = entries.length() - 1;
+
+		for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+			Entry entry = entries.get(i);
+			if (entry == null) {
+				break;
+			}
+			if (entry.key == key) {
+				return entry.state;
+			}
+		}
+
+		return intern(key, build(state, connections, lod));
+	}
+
+	private int getStateIndex(IBlockState state) {
+		Map<IBlockState, Integer> indices = stateIndices;
+		if (indices == null) {
+			indices = new IdentityHashMap<>();
+			List<IBlockState> validStates = block.getBlockState().getValidStates();
+			for (int i = 0; i < validStates.size() && i < 128; i++) {
+				indices.put(validStates.get(i), i);
+			}
+			stateIndices = indices;//The map is fully built before it's published and never modified
+		}
+		Integer index = indices.get(state);
+		return index != null ? index : -1;
+	}
+
+	private IExtendedBlockState build(IExtendedBlockState state, int connections, boolean lod) {
+		for (EnumFacing dir : EnumFacing.VALUES) {
+			state = state.withProperty(BlockBranch.CONNECTIONS[dir.getIndex()], unpack(connections, dir));
+		}
+		if (lod) {
+			state = state.withProperty(BlockBranch.LOD, true);
+		}
+		return state;
+	}
+
+	private synchronized IExtendedBlockState intern(int key, IExtendedBlockState state) {
+		if (size >= MAXENTRIES) {
+			return state;
+		}
+
+		AtomicReferenceArray<Entry> entries = table;
+		if ((size + 1) * 2 > entries.length()) {//Keep the load factor under one half
+			AtomicReferenceArray<Entry> grown = new AtomicReferenceArray<>(entries.length() * 2);
+			for (int i = 0; i < entries.length(); i++) {
+				Entry entry = entries.get(i);
+				if (entry != null) {
+					insert(grown, entry);
+				}
+			}
+			table = entries = grown;
+		}
+
+		int mask = entries.length() - 1;
+		for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+			Entry entry = entries.get(i);
+			if (entry == null) {
+				break;
+			}
+			if (entry.key == key) {
+				return entry.state;//Another thread got here first
+			}
+		}
+
+		insert(entries, new Entry(key, state));
+		size++;
+		return state;
+	}
+
+	private static void insert(AtomicReferenceArray<Entry> entries, Entry entry) {
+		int mask = entries.length() - 1;
+		int i = hash(entry.key) & mask;
+		while (entries.get(i) != null) {
+			i = (i + 1) & mask;
+		}
+		entries.set(i, entry);
+	}
+
+	private static int hash(int key) {
+		key *= 0x9E3779B9;
+		return key ^ (key >>> 16);
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.ferreusveritas.dynamictrees.blocks;
+
+import com.ferreusveritas.dynamictrees.ModConfigs;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which branches are drawn with simplified geometry.
+ * <p>
+ * A branch is simplified when it's farther than {@link ModConfigs#branchLodDistance} blocks from the viewer at the
+ * time its chunk section is built.  Every section that gets a simplified branch is remembered so that the client
+ * tick handler can have it rebuilt in full detail once the viewer comes close enough to see the difference.  A
+ * section is only rebuilt once all of it is within the distance, otherwise its farthest branches would simplify it
+ * again right away.  That's why the distance can't be less than {@link #MINDISTANCE}.
+ * <p>
+ * Likewise every section that gets a detailed branch is remembered so that it can be rebuilt with simplified
+ * geometry once the viewer moves away.  That only happens once all of the section is more than {@link #HYSTERESIS}
+ * blocks beyond the distance so that a viewer moving back and forth across the boundary doesn't keep rebuilding the
+ * same sections.  Sections are forgotten when their chunk unloads.
+ * <p>
+ * The viewer position is written by the client thread and read by the chunk render threads.  A slightly stale
+ * position only moves the boundary by the distance the viewer travelled in a tick.
+ *
+ * @author ferreusveritas
+ */
+public class BranchLevelOfDetail {
+
+	public static final int MINDISTANCE = 32;
+
+	private static volatile boolean enabled = false;
+	private static volatile double viewerX;
+	private static volatile double viewerY;
+	private static volatile double viewerZ;
+
+	public static final int HYSTERESIS = 16;
+
+	//The chunks holding simplified or detailed branches mapped to a bit for each of their sections that holds any
+	private static final Map<Long, Integer> simplifiedSections = new ConcurrentHashMap<>();
+	private static final Map<Long, Integer> detailedSections = new ConcurrentHashMap<>();
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setViewer(double x, double y, double z) {
+		viewerX = x;
+		viewerY = y;
+		viewerZ = z;
+		enabled = ModConfigs.branchLodDistance > 0;
+	}
+
+	public static void disable() {
+		enabled = false;
+		simplifiedSections.clear();
+		detailedSections.clear();
+	}
+
+	/**
+	 * @return true if the branch at the given position should be drawn with simplified geometry
+	 */
+	public static boolean isSimplified(BlockPos pos) {
+		if (!enabled || !FMLCommonHandler.instance().getEffectiveSide().isClient()) {
+			return false;
+		}
+
+		double distance = ModConfigs.branchLodDistance;
+		double dx = pos.getX() + 0.5 - viewerX;
+		double dy = pos.getY() + 0.5 - viewerY;
+		double dz = pos.getZ() + 0.5 - viewerZ;
+		boolean simplified = dx * dx + dy * dy + dz * dz > distance * distance;
+
+		if (pos.getY() >= 0 && pos.getY() < 256) {
+			(simplified ? simplifiedSections : detailedSections).merge(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), 1 << (pos.getY() >> 4), (a, b) -> a | b);
+		}
+
+		return simplified;
+	}
+
+	/**
+	 * Collect the sections that should be rebuilt because the viewer has moved.  Those holding simplified branches
+	 * that are now entirely within the detail distance and those holding detailed branches that are now entirely
+	 * beyond it by at least {@link #HYSTERESIS}.  They are forgotten as they're returned so each one is only rebuilt
+	 * once.  Rebuilding them records them again with their new level of detail.
+	 *
+	 * @param all Return every simplified section regardless of distance.  Used when simplification is switched off.
+	 * @return The section coordinates(block coordinates >> 4) of the sections to rebuild
+	 */
+	public static List<BlockPos> pollChangedSections(boolean all) {
+		List<BlockPos> sections = new ArrayList<>();
+		double distance = ModConfigs.branchLodDistance;
+
+		//Sections are only detailed when their farthest point is within range
+		poll(simplifiedSections, sections, all ? Double.POSITIVE_INFINITY : distance, true);
+
+		if (all) {
+			detailedSections.clear();
+		} else {//..and only simplified when their nearest point is out of range by a margin
+			poll(detailedSections, sections, -(distance + HYSTERESIS), false);
+		}
+
+		return sections;
+	}
+
+	/**
+	 * @param limit     Sections are returned if their farthest point is closer than this or, if negative, their
+	 *                  nearest point is farther than its magnitude
+	 * @param farthest  true to measure the farthest point of each section, false for the nearest
+	 */
+	private static void poll(Map<Long, Integer> map, List<BlockPos> sections, double limit, boolean farthest) {
+		double limitSq = limit * limit;
+
+		for (Map.Entry<Long, Integer> entry : map.entrySet()) {
+			long key = entry.getKey();
+			int cx = (int) key;//ChunkPos.asLong keeps x in the low bits and z in the high bits
+			int cz = (int) (key >>> 32);
+			int bits = entry.getValue();
+			int found = 0;
+
+			for (int cy = 0; cy < 16; cy++) {
+				if ((bits & (1 << cy)) == 0) {
+					continue;
+				}
+				double distSq = farthest ? farthestSq(cx, cy, cz) : nearestSq(cx, cy, cz);
+				if (limit >= 0 ? distSq < limitSq : distSq > limitSq) {
+					sections.add(new BlockPos(cx, cy, cz));
+					found |= 1 << cy;
+				}
+			}
+
+			//Only clear the sections returned so that any added by the render threads in the meantime are kept
+			if (found != 0) {
+				int clear = found;
+				map.computeIfPresent(key, (k, v) -> (v & ~clear) != 0 ? v & ~clear : null);
+			}
+		}
+	}
+
+	private static double farthestSq(int cx, int cy, int cz) {
+		double dx = Math.max(Math.abs((cx << 4) - viewerX), Math.abs((cx << 4) + 16 - viewerX));
+		double dy = Math.max(Math.abs((cy << 4) - viewerY), Math.abs((cy << 4) + 16 - viewerY));
+		double dz = Math.max(Math.abs((cz << 4) - viewerZ), Math.abs((cz << 4) + 16 - viewerZ));
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	private static double nearestSq(int cx, int cy, int cz) {
+		double dx = Math.max(0, Math.max((cx << 4) - viewerX, viewerX - ((cx << 4) + 16)));
+		double dy = Math.max(0, Math.max((cy << 4) - viewerY, viewerY - ((cy << 4) + 16)));
+		double dz = Math.max(0, Math.max((cz << 4) - viewerZ, viewerZ - ((cz << 4) + 16)));
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+	/**
+	 * Forget the sections of a chunk that's no longer loaded.  It will be built from scratch if it comes back.
+	 */
+	public static void unloadChunk(int chunkX, int chunkZ) {
+		simplifiedSections.remove(ChunkPos.asLong(chunkX, chunkZ));
+		detailedSections.remove(ChunkPos.asLong(chunkX, chunkZ));
+	}
+
+}
@@ -198,6 +198,40 @@ public class LeavesProperties implements ILeavesProperties {
 		return Minecraft.getMinecraft().getBlockColors().colorMultiplier(getPrimitiveLeaves(), world, pos, 0);
 	}
 
+	@SideOnly(Side.CLIENT)
+	private Boolean foliageColorCacheable;
+
+	/**
+	 * The colors of the vanilla leaves only depend on the biome.  Leaves from other mods and subclasses that color
+	 * their leaves some other way aren't cached.
+	 */
+	@SideOnly(Side.CLIENT)
+	@Override
+	public boolean isFoliageColorCacheable() {
+		if (foliageColorCacheable == null) {//Decided once when first drawn since it's asked for every leaves block
+			foliageColorCacheable = isColorDeclaredBy(LeavesProperties.class) && hasVanillaPrimitiveLeaves();
+		}
+		return foliageColorCacheable;
+	}
+
+	/**
+	 * @return true if the foliage color comes from the given class rather than a subclass overriding it
+	 */
+	@SideOnly(Side.CLIENT)
+	protected boolean isColorDeclaredBy(Class<?> clazz) {
+		try {
+			return getClass().getMethod("foliageColorMultiplier", IBlockState.class, IBlockAccess.class, BlockPos.class).getDeclaringClass() == clazz;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	protected boolean hasVanillaPrimitiveLeaves() {
+		IBlockState primitive = getPrimitiveLeaves();
+		ResourceLocation name = primitive != null ? primitive.getBlock().getRegistryName() : null;
+		return name != null && "minecraft".equals(name.getResourceDomain());
+	}
+
 	@Override
 	public boolean updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand) {
 		return true;
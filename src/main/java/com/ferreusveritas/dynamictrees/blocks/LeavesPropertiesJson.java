@@ -265,12 +265,21 @@ public class LeavesPropertiesJson extends LeavesProperties {
 	@SideOnly(Side.CLIENT)
 	private IBlockColor colorMultiplier;
 
+	@SideOnly(Side.CLIENT)
+	private boolean colorCacheable;//Only fixed, biome and vanilla colors are known to be the same for a whole column
+
 	@SideOnly(Side.CLIENT)
 	@Override
 	public int foliageColorMultiplier(IBlockState state, IBlockAccess world, BlockPos pos) {
 		return colorMultiplier.colorMultiplier(state, world, pos, -1);
 	}
 
+	@SideOnly(Side.CLIENT)
+	@Override
+	public boolean isFoliageColorCacheable() {
+		return colorCacheable;
+	}
+
 	@SideOnly(Side.CLIENT)
 	private IBlockColor processColor(JsonPrimitive primitive) {
 		int color = -1;
@@ -281,6 +290,7 @@ public class LeavesPropertiesJson extends LeavesProperties {
 			if (code.startsWith("@")) {
 				code = code.substring(1);
 				if ("biome".equals(code)) { //Built in code since we need access to super
+					colorCacheable = hasVanillaPrimitiveLeaves();
 					return (state, world, pos, t) -> {
 						return world.getBiome(pos).getModdedBiomeFoliageColor(super.foliageColorMultiplier(state, world, pos));
 					};
@@ -296,6 +306,7 @@ public class LeavesPropertiesJson extends LeavesProperties {
 			}
 		}
 		int c = color;
+		colorCacheable = true;
 		return (s, w, p, t) -> c;
 	}
 
@@ -306,7 +317,9 @@ public class LeavesPropertiesJson extends LeavesProperties {
 			colorPrimitive = null;
 		} else {
 			colorMultiplier = (s, w, p, t) -> super.foliageColorMultiplier(s, w, p);
+			colorCacheable = hasVanillaPrimitiveLeaves();
 		}
+		colorCacheable &= isColorDeclaredBy(LeavesPropertiesJson.class);
 	}
 
 	@SideOnly(Side.CLIENT)
@@ -0,0 +1,100 @@
+package com.ferreusveritas.dynamictrees.blocks;
+
+import com.ferreusveritas.dynamictrees.blocks.MimicProperty.IMimic;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the soil that each rooty block in the client world mimics.
+ * <p>
+ * Resolving a mimic searches up to 13 surrounding blocks once for each preferred material.  The result practically
+ * never changes once a rooty block is placed but it's requested on every chunk rebuild and every color query.  The
+ * client world listener invalidates the entries around every block change and render range update so the cache
+ * never outlives the soil it was resolved from.
+ * <p>
+ * Only client threads use the cache.  The server still resolves mimics directly.
+ *
+ * @author ferreusveritas
+ */
+public class RootyMimicCache {
+
+	private static final int MAXENTRIES = 1 << 16;
+
+	private static final Map<Long, IBlockState> mimics = new ConcurrentHashMap<>();
+
+	//Bumped by every invalidation so a mimic resolved while the soil was changing is never stored
+	private static final AtomicLong generation = new AtomicLong();
+
+	public static IBlockState getMimic(IMimic mimic, IBlockAccess access, BlockPos pos) {
+		if (access == null || pos == null || !FMLCommonHandler.instance().getEffectiveSide().isClient()) {
+			return mimic.getMimic(access, pos);
+		}
+
+		Long key = pos.toLong();
+		IBlockState state = mimics.get(key);
+
+		if (state == null) {
+			long gen = generation.get();
+			state = mimic.getMimic(access, pos);
+			if (mimics.size() >= MAXENTRIES) {
+				clear();
+			}
+			if (generation.get() == gen) {
+				mimics.put(key, state);
+				if (generation.get() != gen) {
+					mimics.remove(key);//Invalidated while it was being stored
+				}
+			}
+		}
+
+		return state;
+	}
+
+	/**
+	 * Forget the mimics of every rooty block that could have searched the given position
+	 */
+	public static void invalidate(BlockPos pos) {
+		invalidate(pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	/**
+	 * Forget the mimics of every rooty block that could have searched a position in the given range
+	 */
+	public static void invalidate(int x1, int y1, int z1, int x2, int y2, int z2) {
+		generation.incrementAndGet();
+
+		if (mimics.isEmpty()) {
+			return;
+		}
+
+		//The search pattern reaches one block out horizontally and vertically
+		BlockPos min = new BlockPos(x1 - 1, y1 - 1, z1 - 1);
+		BlockPos max = new BlockPos(x2 + 1, y2 + 1, z2 + 1);
+
+		long volume = (long) (max.getX() - min.getX() + 1) * (max.getY() - min.getY() + 1) * (max.getZ() - min.getZ() + 1);
+
+		if (volume > mimics.size()) {
+			//Large ranges like whole chunks are cheaper to handle by checking every entry
+			mimics.keySet().removeIf(key -> {
+				BlockPos pos = BlockPos.fromLong(key);
+				return pos.getX() >= min.getX() && pos.getX() <= max.getX() && pos.getY() >= min.getY() && pos.getY() <= max.getY() && pos.getZ() >= min.getZ() && pos.getZ() <= max.getZ();
+			});
+		} else {
+			for (BlockPos pos : BlockPos.getAllInBoxMutable(min, max)) {
+				mimics.remove(pos.toLong());
+			}
+		}
+	}
+
+	public static void clear() {
+		generation.incrementAndGet();
+		mimics.clear();
+	}
+
+}
@@ -1,8 +1,12 @@
 package com.ferreusveritas.dynamictrees.cells;
 
 import com.ferreusveritas.dynamictrees.util.SimpleVoxmap;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
 import net.minecraft.util.math.BlockPos;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A voxelmap of a leaf cluster for a species.  Values represent hydration value. This leaf cluster map is "stamped" on
  * to each branch end during worldgen.  Should be representative of what the species actually produces with cell
@@ -171,4 +175,17 @@ public class LeafClusters {
 		0, 0, 0, 0, 0,
 	}).setCenter(new BlockPos(2, 0, 2));
 
+	private static final Map<SimpleVoxmap, SparseVoxmap> sparseClusters = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the sparse form of a leaf cluster.  Leaf clusters are never modified once they are created so each
+	 * cluster is compiled once the first time it's requested.
+	 *
+	 * @param cluster The leaf cluster
+	 * @return A list of the non-zero cells of the cluster
+	 */
+	public static SparseVoxmap getSparse(SimpleVoxmap cluster) {
+		return sparseClusters.computeIfAbsent(cluster, SparseVoxmap::new);
+	}
+
 }
@@ -0,0 +1,143 @@
+package com.ferreusveritas.dynamictrees.client;
+
+import com.ferreusveritas.dynamictrees.api.treedata.ILeavesProperties;
+import com.ferreusveritas.dynamictrees.seasons.SeasonHelper;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers the foliage color of each block column of each chunk section in the client world for each kind of leaves.
+ * <p>
+ * Foliage colors usually blend the biome colors of the 9 surrounding columns, and every leaves block asks for its
+ * color on every chunk rebuild.  A canopy is several blocks thick, so the same columns get blended over and over.
+ * Colors are sampled once per column of a chunk section for each {@link ILeavesProperties}, always at the middle
+ * height of the section, and reused for all the leaves stacked in that column of the section.
+ * <p>
+ * This is an approximation.  Biome temperature, and with it the biome foliage color, drops a little with every block
+ * above y=64, so leaves above that height take the color of the middle of their section rather than their own.  The
+ * difference within a section is small and the result doesn't depend on the order in which leaves are drawn.  It
+ * also relies on foliage colors not depending on the leaves state, so only leaves properties that opt in through
+ * {@link ILeavesProperties#isFoliageColorCacheable()} are cached.  Everything else is colored exactly as before.
+ * <p>
+ * The colors of a chunk are forgotten when it or a neighboring chunk is loaded or unloaded, since the blending
+ * reaches into the neighboring chunks.  Everything is forgotten when the sub-season changes because seasons may
+ * tint the foliage.
+ *
+ * @author ferreusveritas
+ */
+@SideOnly(Side.CLIENT)
+public class LeavesColorCache {
+
+	private static final long KNOWN = 1L << 32;//Marks a sampled column so that any 32 bit color can be stored
+
+	//Keyed by chunk section
+	private static final Map<Long, Map<ILeavesProperties, AtomicLongArray>> sections = new ConcurrentHashMap<>();
+
+	private static int tickCounter = 0;
+	private static int subSeason = -1;
+
+	public static int getColor(ILeavesProperties properties, IBlockState state, IBlockAccess access, BlockPos pos) {
+		if (access == null || pos == null || !properties.isFoliageColorCacheable()) {
+			return properties.foliageColorMultiplier(state, access, pos);
+		}
+
+		int sectionY = MathHelper.clamp(pos.getY(), 0, 255) >> 4;
+
+		AtomicLongArray columns = sections
+			.computeIfAbsent(getKey(pos.getX() >> 4, sectionY, pos.getZ() >> 4), k -> new ConcurrentHashMap<>())
+			.computeIfAbsent(properties, p -> new AtomicLongArray(256));
+
+		int index = (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+		long entry = columns.get(index);
+
+		if ((entry & KNOWN) == 0) {
+			int color = properties.foliageColorMultiplier(state, access, new BlockPos(pos.getX(), sectionY << 4 | 8, pos.getZ()));
+			columns.lazySet(index, KNOWN | (color & 0xFFFFFFFFL));
+			return color;
+		}
+
+		return (int) entry;
+	}
+
+	private static long getKey(int chunkX, int sectionY, int chunkZ) {
+		return (chunkX & 0x3FFFFFL) << 26 | (chunkZ & 0x3FFFFFL) << 4 | sectionY;
+	}
+
+	/**
+	 * Forget the colors of a chunk and its neighbors
+	 */
+	public static void invalidate(int chunkX, int chunkZ) {
+		if (sections.isEmpty()) {
+			return;
+		}
+		for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+			for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+				for (int y = 0; y < 16; y++) {
+					sections.remove(getKey(x, y, z));
+				}
+			}
+		}
+	}
+
+	public static void clear() {
+		sections.clear();
+	}
+
+	@SubscribeEvent
+	public static void onChunkLoad(ChunkEvent.Load event) {
+		if (event.getWorld().isRemote) {
+			invalidate(event.getChunk().x, event.getChunk().z);
+		}
+	}
+
+	@SubscribeEvent
+	public static void onChunkUnload(ChunkEvent.Unload event) {
+		if (event.getWorld().isRemote) {
+			invalidate(event.getChunk().x, event.getChunk().z);
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		if (event.getWorld().isRemote) {
+			clear();
+		}
+	}
+
+	@SubscribeEvent
+	public static void clientTick(TickEvent.ClientTickEvent event) {
+		if (event.phase != Phase.END || ++tickCounter % 20 != 0) {
+			return;
+		}
+
+		Minecraft mc = Minecraft.getMinecraft();
+		Entity viewer = mc.getRenderViewEntity();
+		if (mc.world == null || viewer == null) {
+			return;
+		}
+
+		//Seasons are 1.0 apart and are divided into early, mid and late sub-seasons
+		Float season = SeasonHelper.getSeasonValue(mc.world, viewer.getPosition());
+		int current = season != null ? (int) (season * 3) : -1;
+		if (current != subSeason) {
+			subSeason = current;
+			clear();
+		}
+	}
+
+}
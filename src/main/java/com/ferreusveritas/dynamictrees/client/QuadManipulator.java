@@ -2,11 +2,13 @@ package com.ferreusveritas.dynamictrees.client;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.client.renderer.block.model.ModelManager;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.vertex.VertexFormat;
 import net.minecraft.client.renderer.vertex.VertexFormatElement;
 import net.minecraft.client.renderer.vertex.VertexFormatElement.EnumUsage;
 import net.minecraft.util.EnumFacing;
@@ -20,7 +22,9 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @SideOnly(Side.CLIENT)
@@ -53,47 +57,84 @@ public class QuadManipulator {
 	}
 
 	public static List<BakedQuad> getQuads(IBakedModel modelIn, IBlockState stateIn, Vec3d offset, EnumFacing[] sides, long rand) {
+		if (stateIn == null) {
+			return new ArrayList<>(0);
+		}
+
+		boolean move = !offset.equals(Vec3d.ZERO);
 		final ArrayList<BakedQuad> outQuads = new ArrayList<>();
 
-		if (stateIn != null) {
-			for (EnumFacing side : sides) {
-				outQuads.addAll(modelIn.getQuads(stateIn, side, rand));
+		for (EnumFacing side : sides) {
+			List<BakedQuad> quads = modelIn.getQuads(stateIn, side, rand);
+			if (move) {
+				for (BakedQuad quad : quads) {
+					outQuads.add(moveQuad(quad, (float) offset.x, (float) offset.y, (float) offset.z));
+				}
+			} else {
+				outQuads.addAll(quads);
 			}
 		}
 
-		return offset.equals(Vec3d.ZERO) ? outQuads : moveQuads(outQuads, offset);
+		return outQuads;
 	}
 
 	public static List<BakedQuad> moveQuads(List<BakedQuad> inQuads, Vec3d offset) {
-		ArrayList<BakedQuad> outQuads = new ArrayList<>();
+		ArrayList<BakedQuad> outQuads = new ArrayList<>(inQuads.size());
 
 		for (BakedQuad inQuad : inQuads) {
-			BakedQuad quadCopy = new BakedQuad(inQuad.getVertexData().clone(), inQuad.getTintIndex(), inQuad.getFace(), inQuad.getSprite(), inQuad.shouldApplyDiffuseLighting(), inQuad.getFormat());
-			int[] vertexData = quadCopy.getVertexData();
-			for (int i = 0; i < vertexData.length; i += inQuad.getFormat().getIntegerSize()) {
-				int pos = 0;
-				for (VertexFormatElement vfe : inQuad.getFormat().getElements()) {
-					if (vfe.getUsage() == EnumUsage.POSITION) {
-						float x = Float.intBitsToFloat(vertexData[i + pos + 0]);
-						float y = Float.intBitsToFloat(vertexData[i + pos + 1]);
-						float z = Float.intBitsToFloat(vertexData[i + pos + 2]);
-						x += offset.x;
-						y += offset.y;
-						z += offset.z;
-						vertexData[i + pos + 0] = Float.floatToIntBits(x);
-						vertexData[i + pos + 1] = Float.floatToIntBits(y);
-						vertexData[i + pos + 2] = Float.floatToIntBits(z);
-						break;
-					}
-					pos += vfe.getSize() / 4; // Size is always in bytes but we are dealing with an array of int32s
-				}
+			outQuads.add(moveQuad(inQuad, (float) offset.x, (float) offset.y, (float) offset.z));
+		}
+
+		return outQuads;
+	}
+
+	/**
+	 * @return A copy of the quad with every vertex moved by the given offset
+	 */
+	public static BakedQuad moveQuad(BakedQuad inQuad, float dx, float dy, float dz) {
+		int[] vertexData = inQuad.getVertexData().clone();
+		VertexFormat format = inQuad.getFormat();
+		int pos = getPositionOffset(format);
+
+		if (pos >= 0) {
+			int stride = format.getIntegerSize();
+			for (int i = pos; i < vertexData.length; i += stride) {
+				vertexData[i + 0] = Float.floatToRawIntBits(Float.intBitsToFloat(vertexData[i + 0]) + dx);
+				vertexData[i + 1] = Float.floatToRawIntBits(Float.intBitsToFloat(vertexData[i + 1]) + dy);
+				vertexData[i + 2] = Float.floatToRawIntBits(Float.intBitsToFloat(vertexData[i + 2]) + dz);
 			}
+		}
+
+		return new BakedQuad(vertexData, inQuad.getTintIndex(), inQuad.getFace(), inQuad.getSprite(), inQuad.shouldApplyDiffuseLighting(), format);
+	}
 
-			outQuads.add(quadCopy);
+	/**
+	 * Write a quad straight into a buffer moved by the given offset.  No intermediate quad is created.  The quad must
+	 * be in the same vertex format as the buffer which is always the case for block models drawn in the BLOCK format.
+	 */
+	public static void putQuad(BufferBuilder buffer, BakedQuad quad, double dx, double dy, double dz) {
+		buffer.addVertexData(quad.getVertexData());
+		if (dx != 0 || dy != 0 || dz != 0) {
+			buffer.putPosition(dx, dy, dz);//Moves the position of the 4 vertices just added
 		}
+	}
 
-		outQuads.trimToSize();
-		return outQuads;
+	private static final Map<VertexFormat, Integer> positionOffsets = new ConcurrentHashMap<>();
+
+	/**
+	 * @return The offset in ints of the position element in each vertex of the format or -1 if it has none
+	 */
+	public static int getPositionOffset(VertexFormat format) {
+		return positionOffsets.computeIfAbsent(format, f -> {
+			int pos = 0;
+			for (VertexFormatElement vfe : f.getElements()) {
+				if (vfe.getUsage() == EnumUsage.POSITION) {
+					return pos;
+				}
+				pos += vfe.getSize() / 4; // Size is always in bytes but we are dealing with an array of int32s
+			}
+			return -1;
+		});
 	}
 
 	public static IModel getModelForState(IBlockState state) {
@@ -44,10 +44,22 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 	}
 
 	public ResourceLocation solveRingTexture(Function<ResourceLocation, TextureAtlasSprite> textureGetter) {
+		return solveRingTexture(baseRingLocation, baseRingLocationAlternate, location -> new PixelBuffer(textureGetter.apply(location)));
+	}
+
+	/**
+	 * Given two textures figure out which is the ringed one.
+	 *
+	 * @param baseRingLocation          The primary texture
+	 * @param baseRingLocationAlternate The alternate texture or null if there's no alternative
+	 * @param pixelGetter               Gets the pixels of a texture.  Only used when the names don't give it away.
+	 * @return The location of the ringed texture
+	 */
+	public static ResourceLocation solveRingTexture(ResourceLocation baseRingLocation, ResourceLocation baseRingLocationAlternate, Function<ResourceLocation, PixelBuffer> pixelGetter) {
 
 		//If there's no alternative then obviously we must use the primary
-		if (this.baseRingLocationAlternate == null) {
-			return this.baseRingLocation;
+		if (baseRingLocationAlternate == null) {
+			return baseRingLocation;
 		}
 
 		//A basic check that fits 80% of the time.  Usually the ringed texture's resource ends in "top" e.g. "log_oak_top"
@@ -59,8 +71,8 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 		}
 
 		//Sample the pixels themselves to determine which is the ringed texture
-		int deltaA = getDeltaBorderVsCenterColor(textureGetter.apply(baseRingLocation));
-		int deltaB = getDeltaBorderVsCenterColor(textureGetter.apply(baseRingLocationAlternate));
+		int deltaA = getDeltaBorderVsCenterColor(pixelGetter.apply(baseRingLocation));
+		int deltaB = getDeltaBorderVsCenterColor(pixelGetter.apply(baseRingLocationAlternate));
 
 		return deltaA > deltaB ? baseRingLocation : baseRingLocationAlternate;
 	}
@@ -69,11 +81,10 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 	 * This compares the color of the sprite border with the color of the sprite middle and returns a the RGB delta
 	 * squared.
 	 *
-	 * @param sprite The sprite to generate the delta
+	 * @param pixbuf The pixels of the sprite to generate the delta
 	 * @return RGB delta squared
 	 */
-	private int getDeltaBorderVsCenterColor(TextureAtlasSprite sprite) {
-		PixelBuffer pixbuf = new PixelBuffer(sprite);
+	private static int getDeltaBorderVsCenterColor(PixelBuffer pixbuf) {
 		int u = pixbuf.w / 16;
 		PixelBuffer wide = new PixelBuffer(u * 14, u * 1);
 		PixelBuffer tall = new PixelBuffer(u * 1, u * 14);
@@ -117,7 +128,8 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 
 	@Override
 	public boolean load(IResourceManager manager, ResourceLocation location, Function<ResourceLocation, TextureAtlasSprite> textureGetter) {
-		TextureAtlasSprite baseTexture = textureGetter.apply(solveRingTexture(textureGetter));
+		ResourceLocation ringLocation = solveRingTexture(textureGetter);
+		TextureAtlasSprite baseTexture = textureGetter.apply(ringLocation);
 		int srcWidth = baseTexture.getIconWidth();
 		int srcHeight = baseTexture.getIconHeight();
 
@@ -125,7 +137,10 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 		this.height = srcHeight * 3;
 
 		PixelBuffer basePixbuf = new PixelBuffer(baseTexture);
-		PixelBuffer majPixbuf = createMajorTexture(basePixbuf);
+		PixelBuffer majPixbuf = ThickRingTextureCache.take(new ResourceLocation(getIconName()), ringLocation, basePixbuf);//Usually generated ahead of time
+		if (majPixbuf == null) {
+			majPixbuf = createMajorTexture(basePixbuf);
+		}
 
 		//Load the pixels into the TextureAtlasSprite
 		int mipmapLevels = baseTexture.getFrameTextureData(0).length;
@@ -136,7 +151,11 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 		return false;
 	}
 
-	private PixelBuffer createMajorTexture(PixelBuffer baseBuffer) {
+	/**
+	 * Creates the 3x3 ring texture from a single block's ring texture.  Only depends on the pixels passed in so it's
+	 * safe to call from any thread.
+	 */
+	public static PixelBuffer createMajorTexture(PixelBuffer baseBuffer) {
 
 		int w = baseBuffer.w * 3;
 		int h = baseBuffer.h * 3;
@@ -229,7 +248,7 @@ public class ThickRingTextureAtlasSprite extends TextureAtlasSprite {
 		return majPixbuf;
 	}
 
-	private PixelBuffer createBarklessAntecedent(PixelBuffer baseBuffer) {
+	private static PixelBuffer createBarklessAntecedent(PixelBuffer baseBuffer) {
 		PixelBuffer antecedent = new PixelBuffer(baseBuffer);
 
 		int scale = baseBuffer.w / 16;
@@ -0,0 +1,253 @@
+package com.ferreusveritas.dynamictrees.client;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.ModConfigs;
+import com.ferreusveritas.dynamictrees.ModConstants;
+import com.ferreusveritas.dynamictrees.client.TextureUtils.PixelBuffer;
+import net.minecraft.client.renderer.texture.TextureUtil;
+import net.minecraft.client.resources.IResource;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates thick ring textures in parallel ahead of the texture stitch and keeps them on disk between launches.
+ * <p>
+ * Composing a thick ring texture takes a few dozen blits and rotations.  With many tree families that adds up to a
+ * noticeable part of every resource reload.  When the stitch begins a worker thread reads and decodes the source
+ * textures from the resource manager and composes each thick ring texture while the atlas loads everything else.
+ * The sprite then picks up the finished pixels when the atlas gets to it, so the client thread only has to compare
+ * the source pixels.
+ * <p>
+ * Results are written to config/dynamictrees/cache keyed by a hash of the source pixels so the next launch can skip
+ * composition entirely.  A precomputed texture is only used if the source pixels it was made from exactly match the
+ * sprite the atlas loaded.  Anything else falls back to composing it on the spot.
+ *
+ * @author ferreusveritas
+ */
+@SideOnly(Side.CLIENT)
+public class ThickRingTextureCache {
+
+	private static final int VERSION = 1;//Bump whenever the ring composition changes so old entries are ignored
+	private static final long MAXAGE = TimeUnit.DAYS.toMillis(30);//Unused entries older than this are deleted
+
+	private static final Map<ResourceLocation, CompletableFuture<Result>> pending = new ConcurrentHashMap<>();
+
+	private static class Result {
+		final ResourceLocation source;
+		final PixelBuffer base;
+		final PixelBuffer ring;
+
+		Result(ResourceLocation source, PixelBuffer base, PixelBuffer ring) {
+			this.source = source;
+			this.base = base;
+			this.ring = ring;
+		}
+	}
+
+	/**
+	 * Start generating a thick ring texture.  Reading the source textures and composing the ring both happen on a
+	 * worker thread.
+	 *
+	 * @param manager               The resource manager to read the source textures from
+	 * @param basePath              The base path of the texture map e.g. "textures"
+	 * @param spriteName            The name of the thick ring sprite
+	 * @param ringLocation          The ring texture
+	 * @param ringLocationAlternate An alternate ring texture or null if there is none
+	 */
+	public static void precompute(IResourceManager manager, String basePath, ResourceLocation spriteName, ResourceLocation ringLocation, ResourceLocation ringLocationAlternate) {
+		pending.put(spriteName, CompletableFuture.supplyAsync(() -> {
+			PixelBuffer primary = read(manager, basePath, ringLocation);
+			PixelBuffer alternate = ringLocationAlternate != null ? read(manager, basePath, ringLocationAlternate) : null;
+
+			if (primary == null || (ringLocationAlternate != null && alternate == null)) {
+				return null;//The atlas will report the missing texture.  The sprite composes whatever it ends up with.
+			}
+
+			ResourceLocation source = ThickRingTextureAtlasSprite.solveRingTexture(ringLocation, ringLocationAlternate, location -> location.equals(ringLocation) ? primary : alternate);
+			PixelBuffer base = source.equals(ringLocation) ? primary : alternate;
+			return new Result(source, base, generate(base));
+		}));
+	}
+
+	/**
+	 * Collect a precomputed thick ring texture.  Waits for it if it's still being composed.
+	 *
+	 * @param spriteName The name of the thick ring sprite
+	 * @param source     The ring texture chosen by the sprite
+	 * @param base       The pixels of the ring texture as loaded by the atlas
+	 * @return The thick ring texture or null if there isn't one that matches
+	 */
+	public static PixelBuffer take(ResourceLocation spriteName, ResourceLocation source, PixelBuffer base) {
+		CompletableFuture<Result> future = pending.remove(spriteName);
+		if (future == null) {
+			return null;
+		}
+
+		Result result;
+		try {
+			result = future.join();
+		} catch (RuntimeException e) {
+			DynamicTrees.log.warn("Unable to generate thick ring texture " + spriteName + ": " + e.getMessage());
+			return null;
+		}
+
+		if (result != null && result.source.equals(source) && result.base.w == base.w && result.base.h == base.h && Arrays.equals(result.base.pixels, base.pixels)) {
+			return result.ring;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Forget any precomputed textures that were never collected and prune old entries from the disk cache in the
+	 * background.
+	 */
+	public static void finish() {
+		pending.clear();
+
+		CompletableFuture.runAsync(() -> {
+			File[] files = getCacheDir().listFiles();
+			if (files != null) {
+				long now = System.currentTimeMillis();
+				for (File file : files) {
+					if (file.isFile() && now - file.lastModified() > MAXAGE) {
+						file.delete();
+					}
+				}
+			}
+		});
+	}
+
+	private static PixelBuffer read(IResourceManager manager, String basePath, ResourceLocation location) {
+		ResourceLocation textureLocation = new ResourceLocation(location.getResourceDomain(), String.format("%s/%s%s", basePath, location.getResourcePath(), ".png"));
+
+		try (IResource resource = manager.getResource(textureLocation)) {
+			BufferedImage image = TextureUtil.readBufferedImage(resource.getInputStream());
+			int size = image.getWidth();
+			if (size < 16 || size % 16 != 0 || image.getHeight() < size) {
+				return null;
+			}
+			//Animated textures are a vertical strip of frames.  The sprite uses the first one.
+			PixelBuffer pixbuf = new PixelBuffer(size, size);
+			image.getRGB(0, 0, size, size, pixbuf.pixels, 0, size);
+			return pixbuf;
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static PixelBuffer generate(PixelBuffer base) {
+		if (!ModConfigs.thickRingTextureCache) {
+			return ThickRingTextureAtlasSprite.createMajorTexture(base);
+		}
+
+		File file = new File(getCacheDir(), hash(base) + ".bin");
+		PixelBuffer ring = load(file, base.w * 3, base.h * 3);
+
+		if (ring != null) {
+			file.setLastModified(System.currentTimeMillis());//Keep entries in use from being pruned
+		} else {
+			ring = ThickRingTextureAtlasSprite.createMajorTexture(base);
+			save(file, ring);
+		}
+
+		return ring;
+	}
+
+	private static String hash(PixelBuffer pixbuf) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			byte[] buffer = new byte[pixbuf.pixels.length * 4 + 8];
+			int i = 0;
+			for (int value : new int[]{pixbuf.w, pixbuf.h}) {
+				i = putInt(buffer, i, value);
+			}
+			for (int pixel : pixbuf.pixels) {
+				i = putInt(buffer, i, pixel);
+			}
+			StringBuilder builder = new StringBuilder();
+			for (byte b : digest.digest(buffer)) {
+				builder.append(String.format("%02x", b));
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(Arrays.hashCode(pixbuf.pixels)) + Integer.toHexString(pixbuf.w);
+		}
+	}
+
+	private static int putInt(byte[] buffer, int i, int value) {
+		buffer[i++] = (byte) (value >>> 24);
+		buffer[i++] = (byte) (value >>> 16);
+		buffer[i++] = (byte) (value >>> 8);
+		buffer[i++] = (byte) value;
+		return i;
+	}
+
+	private static File getCacheDir() {
+		return new File(new File(new File(ModConfigs.configDirectory, ModConstants.MODID), "cache"), "thickrings");
+	}
+
+	private static PixelBuffer load(File file, int w, int h) {
+		if (!file.isFile()) {
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() == VERSION && in.readInt() == w && in.readInt() == h) {
+				PixelBuffer pixbuf = new PixelBuffer(w, h);
+				for (int i = 0; i < pixbuf.pixels.length; i++) {
+					pixbuf.pixels[i] = in.readInt();
+				}
+				return pixbuf;
+			}
+		} catch (IOException e) {
+			DynamicTrees.log.warn("Discarding unreadable thick ring texture cache " + file + ": " + e.getMessage());
+		}
+
+		return null;
+	}
+
+	private static void save(File file, PixelBuffer pixbuf) {
+		file.getParentFile().mkdirs();
+
+		//Write to a temporary file first so a partially written entry can never be read
+		File temp = new File(file.getParentFile(), file.getName() + "." + Thread.currentThread().getId() + ".tmp");
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(VERSION);
+			out.writeInt(pixbuf.w);
+			out.writeInt(pixbuf.h);
+			for (int pixel : pixbuf.pixels) {
+				out.writeInt(pixel);
+			}
+		} catch (IOException e) {
+			DynamicTrees.log.warn("Unable to write thick ring texture cache " + file + ": " + e.getMessage());
+			temp.delete();
+			return;
+		}
+
+		if (!temp.renameTo(file)) {
+			temp.delete();
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.ferreusveritas.dynamictrees.command;
+
+import com.ferreusveritas.dynamictrees.worldgen.WorldGenPregenerator;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+
+import java.util.List;
+
+public class CommandPregen extends SubCommand {
+
+	public static final String PREGEN = "pregen";
+
+	public static final String START = "start";
+	public static final String PAUSE = "pause";
+	public static final String RESUME = "resume";
+	public static final String STOP = "stop";
+	public static final String STATUS = "status";
+
+	private final int chunkMax = 1875000;
+
+	@Override
+	public String getName() {
+		return PREGEN;
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, BlockPos targetPos) {
+
+		if (args.length == 2) {
+			return CommandBase.getListOfStringsMatchingLastWord(args, START, PAUSE, RESUME, STOP, STATUS);
+		}
+
+		if (args.length >= 3 && args.length <= 6 && START.equals(args[1])) {
+			return CommandChunkBased.getTabCompletionCoordinate(args, args.length <= 4 ? 2 : 4, targetPos);
+		}
+
+		return super.getTabCompletions(server, sender, args, targetPos);
+	}
+
+	@Override
+	public void execute(World world, ICommandSender sender, String[] args) throws CommandException {
+
+		if (args.length < 2) {
+			throw new WrongUsageException("commands.dynamictrees.pregen.usage");
+		}
+
+		WorldGenPregenerator job = WorldGenPregenerator.getJob();
+
+		switch (args[1]) {
+			case START:
+				if (args.length != 6) {
+					throw new WrongUsageException("commands.dynamictrees.pregen.usage");
+				}
+				BlockPos pos = sender.getPosition();
+				int x1 = (int) CommandBase.parseDouble(pos.getX() >> 4, args[2], -chunkMax, chunkMax, false);
+				int z1 = (int) CommandBase.parseDouble(pos.getZ() >> 4, args[3], -chunkMax, chunkMax, false);
+				int x2 = (int) CommandBase.parseDouble(pos.getX() >> 4, args[4], -chunkMax, chunkMax, false);
+				int z2 = (int) CommandBase.parseDouble(pos.getZ() >> 4, args[5], -chunkMax, chunkMax, false);
+				job = WorldGenPregenerator.start(world, x1, z1, x2, z2);
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.pregen.started", job.getRange(), job.getTotal()));
+				break;
+			case PAUSE:
+			case RESUME:
+				if (job == null) {
+					throw new CommandException("commands.dynamictrees.pregen.nojob");
+				}
+				job.setPaused(PAUSE.equals(args[1]));
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.pregen." + (PAUSE.equals(args[1]) ? "paused" : "resumed")));
+				break;
+			case STOP:
+				WorldGenPregenerator.stop();
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.pregen.stopped"));
+				break;
+			case STATUS:
+				if (job == null) {
+					throw new CommandException("commands.dynamictrees.pregen.nojob");
+				}
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.pregen.status",
+					job.getState().name().toLowerCase(), job.getRange(), job.getDimension(), job.getIndex(), job.getTotal(),
+					String.format("%.1f", job.getIndex() * 100.0 / job.getTotal()), String.format("%.2f", job.getChunksPerSecond()),
+					job.getThrottledTicks()));
+				break;
+			default:
+				throw new WrongUsageException("commands.dynamictrees.pregen.usage");
+		}
+	}
+
+}
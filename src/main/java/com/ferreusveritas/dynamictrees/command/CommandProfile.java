@@ -0,0 +1,72 @@
+package com.ferreusveritas.dynamictrees.command;
+
+import com.ferreusveritas.dynamictrees.worldgen.WorldGenProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+
+import java.util.List;
+
+public class CommandProfile extends SubCommand {
+
+	public static final String PROFILE = "profile";
+	public static final String WORLDGEN = "worldgen";
+
+	public static final String START = "start";
+	public static final String STOP = "stop";
+	public static final String RESET = "reset";
+	public static final String REPORT = "report";
+
+	@Override
+	public String getName() {
+		return PROFILE;
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, BlockPos targetPos) {
+
+		switch (args.length) {
+			case 2:
+				return CommandBase.getListOfStringsMatchingLastWord(args, WORLDGEN);
+			case 3:
+				return CommandBase.getListOfStringsMatchingLastWord(args, START, STOP, RESET, REPORT);
+		}
+
+		return super.getTabCompletions(server, sender, args, targetPos);
+	}
+
+	@Override
+	public void execute(World world, ICommandSender sender, String[] args) throws CommandException {
+
+		if (args.length < 3 || !WORLDGEN.equals(args[1])) {
+			throw new WrongUsageException("commands.dynamictrees.profile.usage");
+		}
+
+		switch (args[2]) {
+			case START:
+				WorldGenProfiler.setEnabled(true);
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.profile.started"));
+				break;
+			case STOP:
+				WorldGenProfiler.setEnabled(false);
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.profile.stopped"));
+				break;
+			case RESET:
+				WorldGenProfiler.reset();
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.profile.reset"));
+				break;
+			case REPORT:
+				WorldGenProfiler.report().forEach(line -> sender.sendMessage(new TextComponentString(line)));
+				break;
+			default:
+				throw new WrongUsageException("commands.dynamictrees.profile.usage");
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.ferreusveritas.dynamictrees.command;
+
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+
+import java.util.List;
+
+public class CommandStats extends SubCommand {
+
+	public static final String STATS = "stats";
+
+	public static final String ENABLE = "enable";
+	public static final String DISABLE = "disable";
+	public static final String RESET = "reset";
+	public static final String DUMP = "dump";
+
+	@Override
+	public String getName() {
+		return STATS;
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, BlockPos targetPos) {
+
+		if (args.length == 2) {
+			return CommandBase.getListOfStringsMatchingLastWord(args, ENABLE, DISABLE, RESET, DUMP);
+		}
+
+		return super.getTabCompletions(server, sender, args, targetPos);
+	}
+
+	@Override
+	public void execute(World world, ICommandSender sender, String[] args) throws CommandException {
+
+		if (args.length == 1) {
+			if (!Metrics.isEnabled()) {
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.stats.notenabled"));
+			}
+			Metrics.report().forEach(line -> sender.sendMessage(new TextComponentString(line)));
+			return;
+		}
+
+		switch (args[1]) {
+			case ENABLE:
+				Metrics.setEnabled(true);
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.stats.enabled"));
+				break;
+			case DISABLE:
+				Metrics.setEnabled(false);
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.stats.disabled"));
+				break;
+			case RESET:
+				Metrics.reset();
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.stats.reset"));
+				break;
+			case DUMP:
+				Metrics.dump();
+				sender.sendMessage(new TextComponentTranslation("commands.dynamictrees.stats.dumped", Metrics.getDumpFile().getPath()));
+				break;
+			default:
+				throw new WrongUsageException("commands.dynamictrees.stats.usage");
+		}
+	}
+
+}
@@ -37,6 +37,9 @@ public class DTCommand extends CommandBase {
 		addSubCommand(new CommandPurgeTrees());
 		addSubCommand(new CommandTransform());
 		addSubCommand(new CommandCreateTransformPotion());
+		addSubCommand(new CommandProfile());
+		addSubCommand(new CommandStats());
+		addSubCommand(new CommandPregen());
 	}
 
 	@Override
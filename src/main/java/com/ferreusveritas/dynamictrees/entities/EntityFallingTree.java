@@ -9,6 +9,7 @@ import com.ferreusveritas.dynamictrees.entities.animation.AnimationHandlers;
 import com.ferreusveritas.dynamictrees.entities.animation.IAnimationHandler;
 import com.ferreusveritas.dynamictrees.models.IModelTracker;
 import com.ferreusveritas.dynamictrees.models.ModelTrackerCacheEntityFallingTree;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.util.BlockBounds;
 import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
 import com.ferreusveritas.dynamictrees.util.BranchDestructionData.PosType;
@@ -482,6 +483,7 @@ public class EntityFallingTree extends Entity implements IModelTracker {
 		if (!world.isRemote) {// Only spawn entities server side
 			EntityFallingTree entity = new EntityFallingTree(world).setData(destroyData, woodDropList, destroyType);
 			if (entity.isEntityAlive()) {
+				Metrics.FALLING_TREES.increment();
 				world.spawnEntity(entity);
 			}
 			return entity;
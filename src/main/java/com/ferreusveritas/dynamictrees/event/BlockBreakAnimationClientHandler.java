@@ -46,6 +46,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import org.lwjgl.opengl.GL11;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,11 @@ public class BlockBreakAnimationClientHandler implements ISelectiveResourceReloa
 
 	private final TextureAtlasSprite[] destroyBlockIcons = new TextureAtlasSprite[10];
 
+	//Damage models for each progress stage keyed by extended state.  Branch extended states are interned so the same
+	//branch shape always maps to the same entry.
+	private final Map<IBlockState, IBakedModel[]> damageModels = new HashMap<>();
+	private static final int MAXDAMAGEMODELS = 256;
+
 	private BlockBreakAnimationClientHandler(Minecraft mc) {
 		((IReloadableResourceManager) mc.getResourceManager()).registerReloadListener(this);
 	}
@@ -92,11 +98,13 @@ public class BlockBreakAnimationClientHandler implements ISelectiveResourceReloa
 	@SubscribeEvent
 	public void worldUnload(WorldEvent.Unload event) {
 		BlockBreakAnimationClientHandler.damagedBranches.clear();
+		damageModels.clear();
 	}
 
 	@SubscribeEvent
 	public void worldLoad(WorldEvent.Load event) {
 		BlockBreakAnimationClientHandler.damagedBranches.clear();
+		damageModels.clear();
 	}
 
 	@SubscribeEvent
@@ -199,12 +207,11 @@ public class BlockBreakAnimationClientHandler implements ISelectiveResourceReloa
 					IBlockState state = mc.world.getBlockState(pos);
 					if (state.getBlock() instanceof BlockBranch) {
 						int k1 = destroyblockprogress.getPartialBlockDamage();
-						TextureAtlasSprite textureatlassprite = this.destroyBlockIcons[k1];
 						BlockRendererDispatcher blockrendererdispatcher = mc.getBlockRendererDispatcher();
 						if (state.getRenderType() == EnumBlockRenderType.MODEL) {
 							state = state.getActualState(mc.world, pos);
 							IBakedModel baseModel = blockrendererdispatcher.getBlockModelShapes().getModelForState(state);
-							IBakedModel damageModel = getDamageModel(baseModel, textureatlassprite, state, mc.world, pos);
+							IBakedModel damageModel = getDamageModel(baseModel, k1, state, mc.world, pos);
 							blockrendererdispatcher.getBlockModelRenderer().renderModel(mc.world, damageModel, state, pos, bufferBuilderIn, true);
 						}
 					} else {
@@ -220,10 +227,31 @@ public class BlockBreakAnimationClientHandler implements ISelectiveResourceReloa
 	}
 
 
-	@SuppressWarnings("deprecation")
-	private IBakedModel getDamageModel(IBakedModel baseModel, TextureAtlasSprite texture, IBlockState state, IBlockAccess world, BlockPos pos) {
+	/**
+	 * Gets the damage model of a block for a progress stage.  Models are built once per extended state and stage
+	 * and then reused every frame.
+	 */
+	private IBakedModel getDamageModel(IBakedModel baseModel, int stage, IBlockState state, IBlockAccess world, BlockPos pos) {
 		state = state.getBlock().getExtendedState(state, world, pos);
 
+		IBakedModel[] models = damageModels.get(state);
+		if (models == null) {
+			if (damageModels.size() >= MAXDAMAGEMODELS) {
+				damageModels.clear();
+			}
+			models = new IBakedModel[destroyBlockIcons.length];
+			damageModels.put(state, models);
+		}
+
+		if (models[stage] == null) {
+			models[stage] = createDamageModel(baseModel, destroyBlockIcons[stage], state, pos);
+		}
+
+		return models[stage];
+	}
+
+	@SuppressWarnings("deprecation")
+	private IBakedModel createDamageModel(IBakedModel baseModel, TextureAtlasSprite texture, IBlockState state, BlockPos pos) {
 		if (baseModel instanceof ICustomDamageModel) {
 
 			ICustomDamageModel customDamageModel = (ICustomDamageModel) baseModel;
@@ -331,6 +359,8 @@ public class BlockBreakAnimationClientHandler implements ISelectiveResourceReloa
 
 	@Override
 	public void onResourceManagerReload(IResourceManager resourceManager, Predicate<IResourceType> resourcePredicate) {
+		damageModels.clear();//Either the models or the textures they're made of may have changed
+
 		if (resourcePredicate.test(VanillaResourceType.TEXTURES)) {
 			TextureMap texturemap = Minecraft.getMinecraft().getTextureMapBlocks();
 
@@ -0,0 +1,74 @@
+package com.ferreusveritas.dynamictrees.event;
+
+import com.ferreusveritas.dynamictrees.ModConfigs;
+import com.ferreusveritas.dynamictrees.blocks.BranchLevelOfDetail;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Keeps {@link BranchLevelOfDetail} informed of the viewer position and rebuilds the chunk sections holding
+ * simplified branches once the viewer gets close to them and those holding detailed branches once it moves away.
+ *
+ * @author ferreusveritas
+ */
+@SideOnly(Side.CLIENT)
+public class BranchLodClientHandler {
+
+	private static final int RECHECKINTERVAL = 10;//Ticks between checks for sections to change the detail of
+
+	private int tickCounter = 0;
+
+	@SubscribeEvent
+	public void clientTick(TickEvent.ClientTickEvent event) {
+		if (event.phase != Phase.END) {
+			return;
+		}
+
+		Minecraft mc = Minecraft.getMinecraft();
+		Entity viewer = mc.getRenderViewEntity();
+
+		if (mc.world == null || viewer == null) {
+			BranchLevelOfDetail.disable();
+			return;
+		}
+
+		if (ModConfigs.branchLodDistance <= 0) {
+			if (BranchLevelOfDetail.isEnabled()) {//Switched off while in game so draw everything in full again
+				rebuild(mc, true);
+				BranchLevelOfDetail.disable();
+			}
+			return;
+		}
+
+		BranchLevelOfDetail.setViewer(viewer.posX, viewer.posY + viewer.getEyeHeight(), viewer.posZ);
+
+		if (++tickCounter % RECHECKINTERVAL == 0) {
+			rebuild(mc, false);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		if (event.getWorld().isRemote) {
+			BranchLevelOfDetail.unloadChunk(event.getChunk().x, event.getChunk().z);
+		}
+	}
+
+	private void rebuild(Minecraft mc, boolean all) {
+		for (BlockPos section : BranchLevelOfDetail.pollChangedSections(all)) {
+			int x = section.getX() << 4;
+			int y = section.getY() << 4;
+			int z = section.getZ() << 4;
+			//The range is padded by a block on each side when it's marked so this covers just the one section
+			mc.renderGlobal.markBlockRangeForRenderUpdate(x + 1, y + 1, z + 1, x + 14, y + 14, z + 14);
+		}
+	}
+
+}
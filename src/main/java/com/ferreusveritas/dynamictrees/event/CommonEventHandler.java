@@ -1,12 +1,16 @@
 package com.ferreusveritas.dynamictrees.event;
 
 import com.ferreusveritas.dynamictrees.api.WorldGenRegistry;
+import com.ferreusveritas.dynamictrees.blocks.RootyMimicCache;
 import com.ferreusveritas.dynamictrees.client.TooltipHandler;
 import com.ferreusveritas.dynamictrees.seasons.SeasonHelper;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
+import com.ferreusveritas.dynamictrees.worldgen.WorldGenPregenerator;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent.Type;
 import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
 import net.minecraftforge.fml.relauncher.Side;
@@ -26,6 +30,14 @@ public class CommonEventHandler {
 		}
 	}
 
+	@SubscribeEvent
+	public void onServerTick(ServerTickEvent event) {
+		if (event.phase == Phase.END) {
+			Metrics.onServerTick();
+			WorldGenPregenerator.onServerTick();
+		}
+	}
+
 	@SubscribeEvent
 	public void onWorldLoad(WorldEvent.Load event) {
 		if (WorldGenRegistry.isWorldGenEnabled() && !event.getWorld().isRemote) {
@@ -37,6 +49,16 @@ public class CommonEventHandler {
 		event.getWorld().addEventListener(new WorldListener(event.getWorld(), event.getWorld().getMinecraftServer()));
 	}
 
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (!event.getWorld().isRemote) {
+			FutureBreak.unloadWorld(event.getWorld());
+			WorldGenPregenerator.onWorldUnload(event.getWorld());
+		} else {
+			RootyMimicCache.clear();
+		}
+	}
+
 	@SubscribeEvent
 	@SideOnly(Side.CLIENT)
 	public void onItemTooltipAdded(ItemTooltipEvent event) {
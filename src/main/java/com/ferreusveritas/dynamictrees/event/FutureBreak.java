@@ -1,17 +1,27 @@
 package com.ferreusveritas.dynamictrees.event;
 
-import com.ferreusveritas.dynamictrees.api.IFutureBreakable;
+import com.ferreusveritas.dynamictrees.ModConfigs;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 public class FutureBreak {
 
+	/** Pending breaks are bucketed by dimension so that each world only ever processes its own breaks */
+	private static final Map<Integer, FutureBreakScheduler> schedulers = new HashMap<>();
+
+	/**
+	 * @deprecated Use {@link #add(FutureBreak)}.  Breaks added directly to this list are moved onto the scheduler of
+	 * their world the next time that world processes its breaks.
+	 */
+	@Deprecated
 	public static List<FutureBreak> futureBreaks = new LinkedList<>();
 
 	public final IBlockState state;
@@ -30,30 +40,48 @@ public class FutureBreak {
 
 	public static void add(FutureBreak fb) {
 		if (!fb.world.isRemote) {
-			futureBreaks.add(fb);
+			getScheduler(fb.world).schedule(fb);
 		}
 	}
 
 	public static void process(World world) {
 		if (!futureBreaks.isEmpty()) {
-			Iterator<FutureBreak> i = futureBreaks.iterator();
-
-			while (i.hasNext()) {
-				FutureBreak fb = i.next();
-				if (world == fb.world) { //Make sure we're working in the same world
-					if (fb.state.getBlock() instanceof IFutureBreakable) {
-						if (fb.ticks-- <= 0) {
-							IFutureBreakable branch = (IFutureBreakable) fb.state.getBlock();
-							branch.futureBreak(fb.state, world, fb.pos, fb.entity);
-							i.remove();
-						}
-					} else {
-						i.remove();
-					}
-				}
+			drainLegacy(world);
+		}
+
+		FutureBreakScheduler scheduler = schedulers.get(world.provider.getDimension());
+		if (scheduler != null && scheduler.getWorld() == world) { //Make sure we're working in the same world
+			scheduler.advance(ModConfigs.maxFutureBreaksPerTick);
+		}
+	}
+
+	public static void unloadWorld(World world) {
+		FutureBreakScheduler scheduler = schedulers.get(world.provider.getDimension());
+		if (scheduler != null && scheduler.getWorld() == world) {
+			scheduler.clear();
+			schedulers.remove(world.provider.getDimension());
+		}
+	}
+
+	private static void drainLegacy(World world) {
+		Iterator<FutureBreak> i = futureBreaks.iterator();
+		while (i.hasNext()) {
+			FutureBreak fb = i.next();
+			if (fb.world == world) {
+				i.remove();
+				add(fb);
 			}
 		}
 	}
 
-}
+	private static FutureBreakScheduler getScheduler(World world) {
+		int dim = world.provider.getDimension();
+		FutureBreakScheduler scheduler = schedulers.get(dim);
+		if (scheduler == null || scheduler.getWorld() != world) {
+			scheduler = new FutureBreakScheduler(world);
+			schedulers.put(dim, scheduler);
+		}
+		return scheduler;
+	}
 
+}
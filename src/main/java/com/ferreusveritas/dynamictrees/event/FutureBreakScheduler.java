@@ -0,0 +1,128 @@
+package com.ferreusveritas.dynamictrees.event;
+
+import com.ferreusveritas.dynamictrees.api.IFutureBreakable;
+import net.minecraft.world.World;
+
+import java.util.ArrayDeque;
+
+/**
+ * A timing wheel of pending {@link FutureBreak}s for a single world.
+ * <p>
+ * Each slot of the wheel holds the breaks that expire when the cursor reaches it.  Breaks scheduled further
+ * ahead than the wheel is long are placed in the slot they would land in and carry the number of full
+ * revolutions they must wait out.  Insertion is O(1) and each advance only touches the breaks in a single slot.
+ *
+ * @author ferreusveritas
+ */
+public class FutureBreakScheduler {
+
+	private static final int WHEEL_BITS = 6;
+	private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	private final World world;
+	private final ArrayDeque<FutureBreak>[] slots;
+	/** Breaks that were due but were held back by the rate limit.  These are serviced first on the next advance. */
+	private final ArrayDeque<FutureBreak> overdue = new ArrayDeque<>();
+	private int cursor = 0;
+	private int size = 0;
+	/** True while breaks are being performed.  The cursor slot is then already being serviced. */
+	private boolean advancing = false;
+
+	@SuppressWarnings("unchecked")
+	public FutureBreakScheduler(World world) {
+		this.world = world;
+		this.slots = new ArrayDeque[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			slots[i] = new ArrayDeque<>();
+		}
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Schedule a break to be performed after its ticks count has elapsed.
+	 * A tick count of 0 will be performed on the next advance.
+	 */
+	public void schedule(FutureBreak fb) {
+		int delay = Math.max(0, fb.ticks);
+		int next = advancing ? cursor + 1 : cursor;//Breaks scheduled by a break are counted from the next advance
+		fb.ticks = delay >>> WHEEL_BITS;//The number of full revolutions to wait out
+		slots[(next + delay) & WHEEL_MASK].add(fb);
+		size++;
+	}
+
+	/**
+	 * Advance the wheel by one slot and perform every break that has come due.
+	 *
+	 * @param limit The maximum number of breaks to perform. Values less than 1 are unlimited.
+	 * @return The number of breaks performed
+	 */
+	public int advance(int limit) {
+		if (size == 0) {
+			cursor = (cursor + 1) & WHEEL_MASK;
+			return 0;
+		}
+
+		int budget = limit > 0 ? limit : Integer.MAX_VALUE;
+		int performed = 0;
+		advancing = true;
+
+		//Service anything held back from a previous advance first so that ordering is preserved
+		while (!overdue.isEmpty() && performed < budget) {
+			if (perform(overdue.poll())) {
+				performed++;
+			}
+		}
+
+		ArrayDeque<FutureBreak> slot = slots[cursor];
+		int count = slot.size();
+		for (int i = 0; i < count; i++) {
+			FutureBreak fb = slot.poll();
+			if (fb.ticks > 0) {
+				fb.ticks--;
+				slot.add(fb);//Still has revolutions to wait out
+			} else if (performed < budget) {
+				if (perform(fb)) {
+					performed++;
+				}
+			} else {
+				overdue.add(fb);
+			}
+		}
+
+		advancing = false;
+		cursor = (cursor + 1) & WHEEL_MASK;
+		return performed;
+	}
+
+	/** @return true if the break was actually performed */
+	private boolean perform(FutureBreak fb) {
+		size--;
+		if (fb.state.getBlock() instanceof IFutureBreakable) {
+			IFutureBreakable branch = (IFutureBreakable) fb.state.getBlock();
+			branch.futureBreak(fb.state, world, fb.pos, fb.entity);
+			return true;
+		}
+		return false;
+	}
+
+	public void clear() {
+		for (ArrayDeque<FutureBreak> slot : slots) {
+			slot.clear();
+		}
+		overdue.clear();
+		size = 0;
+	}
+
+}
@@ -1,10 +1,13 @@
 package com.ferreusveritas.dynamictrees.event;
 
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
+import com.ferreusveritas.dynamictrees.util.LeavesSectionTracker;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
@@ -14,12 +17,32 @@ public class LeafUpdateEventHandler {
 	@SubscribeEvent(priority = EventPriority.HIGH)
 	public void UpdateNeighbour(BlockEvent.NeighborNotifyEvent event) {
 		World world = event.getWorld();
+		BlockPos pos = event.getPos();
+		//Skip the block lookups entirely when the surrounding sections are known to contain no dynamic leaves
+		if (!LeavesSectionTracker.mayContainLeavesAround(world, pos)) {
+			return;
+		}
 		for (EnumFacing facing : event.getNotifiedSides()) {
-			BlockPos blockPos = event.getPos().offset(facing);
+			BlockPos blockPos = pos.offset(facing);
 			if (TreeHelper.isLeaves(world.getBlockState(blockPos))) {
 				event.setCanceled(true);
+				return;
 			}
 		}
 	}
 
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		if (!event.getWorld().isRemote) {
+			LeavesSectionTracker.unloadChunk(event.getWorld(), event.getChunk().getPos());
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (!event.getWorld().isRemote) {
+			LeavesSectionTracker.unloadWorld(event.getWorld());
+		}
+	}
+
 }
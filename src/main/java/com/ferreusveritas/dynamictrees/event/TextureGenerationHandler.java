@@ -1,6 +1,7 @@
 package com.ferreusveritas.dynamictrees.event;
 
 import com.ferreusveritas.dynamictrees.client.ThickRingTextureAtlasSprite;
+import com.ferreusveritas.dynamictrees.client.ThickRingTextureCache;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.resources.IResource;
 import net.minecraft.client.resources.IResourceManager;
@@ -48,7 +49,9 @@ public class TextureGenerationHandler {
 		for (Entry<ResourceLocation, ResourceLocation> entry : thickRingTextures.entrySet()) {
 
 			if (entry.getKey() instanceof DualResourceLocation) {
-				dualStitch(event, (DualResourceLocation) entry.getKey(), entry.getValue());
+				DualResourceLocation key = (DualResourceLocation) entry.getKey();
+				ThickRingTextureCache.precompute(resourceManager, event.getMap().getBasePath(), entry.getValue(), key, key.getAlternate());
+				dualStitch(event, key, entry.getValue());
 				continue;
 			}
 
@@ -64,11 +67,18 @@ public class TextureGenerationHandler {
 			if (resource != null) {
 				event.getMap().registerSprite(entry.getValue());
 			} else {
+				ThickRingTextureCache.precompute(resourceManager, event.getMap().getBasePath(), entry.getValue(), entry.getKey(), null);
 				event.getMap().setTextureEntry(new ThickRingTextureAtlasSprite(entry.getValue(), entry.getKey()));
 			}
 		}
 	}
 
+	@SideOnly(Side.CLIENT)
+	@SubscribeEvent
+	public static void onTextureStitchEventPost(TextureStitchEvent.Post event) {
+		ThickRingTextureCache.finish();
+	}
+
 	@SideOnly(Side.CLIENT)
 	public static void dualStitch(TextureStitchEvent.Pre event, DualResourceLocation key, ResourceLocation value) {
 		event.getMap().setTextureEntry(new ThickRingTextureAtlasSprite(value, key, key.getAlternate()));
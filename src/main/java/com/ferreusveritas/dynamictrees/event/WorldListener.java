@@ -1,6 +1,8 @@
 package com.ferreusveritas.dynamictrees.event;
 
 import com.ferreusveritas.dynamictrees.blocks.BlockTrunkShell;
+import com.ferreusveritas.dynamictrees.blocks.RootyMimicCache;
+import com.ferreusveritas.dynamictrees.models.IModelTracker;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -25,6 +27,9 @@ public class WorldListener implements IWorldEventListener {
 
 	@Override
 	public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags) {
+		if (world.isRemote) {
+			RootyMimicCache.invalidate(pos);
+		}
 	}
 
 	@Override
@@ -33,6 +38,9 @@ public class WorldListener implements IWorldEventListener {
 
 	@Override
 	public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {
+		if (world.isRemote) {
+			RootyMimicCache.invalidate(x1, y1, z1, x2, y2, z2);
+		}
 	}
 
 	@Override
@@ -57,6 +65,9 @@ public class WorldListener implements IWorldEventListener {
 
 	@Override
 	public void onEntityRemoved(Entity entityIn) {
+		if (world.isRemote && entityIn instanceof IModelTracker) {
+			((IModelTracker) entityIn).modelCleanup();//Covers entities that leave without dying like on chunk unloads
+		}
 	}
 
 	@Override
@@ -75,18 +86,16 @@ public class WorldListener implements IWorldEventListener {
 
 		IBlockState state = world.getBlockState(pos);
 		if (state.getBlock() instanceof BlockTrunkShell) {
-			//BlockTrunkShell shell = (BlockTrunkShell) state.getBlock();
-
-			for (EntityPlayerMP entityplayermp : this.mcServer.getPlayerList().getPlayers()) {
-				if (entityplayermp != null && entityplayermp.world == this.world) {
-					double d0 = (double) pos.getX() - entityplayermp.posX;
-					double d1 = (double) pos.getY() - entityplayermp.posY;
-					double d2 = (double) pos.getZ() - entityplayermp.posZ;
-
-					if (d0 * d0 + d1 * d1 + d2 * d2 < 1024.0D) {
-						BlockPos centerPos = pos.add(state.getValue(BlockTrunkShell.COREDIR).getOffset());
-						entityplayermp.connection.sendPacket(new SPacketBlockBreakAnim((-breakerId) - 1, centerPos, progress));
+			BlockPos centerPos = pos.add(state.getValue(BlockTrunkShell.COREDIR).getOffset());
+			SPacketBlockBreakAnim packet = null;
+
+			//Only the players in this world can be in range so there's no need to go through every player on the server
+			for (EntityPlayer player : world.playerEntities) {
+				if (player instanceof EntityPlayerMP && player.getDistanceSq(pos) < 1024.0D) {
+					if (packet == null) {
+						packet = new SPacketBlockBreakAnim((-breakerId) - 1, centerPos, progress);
 					}
+					((EntityPlayerMP) player).connection.sendPacket(packet);
 				}
 			}
 		}
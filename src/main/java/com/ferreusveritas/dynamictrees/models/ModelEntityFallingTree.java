@@ -1,9 +1,10 @@
 package com.ferreusveritas.dynamictrees.models;
 
+import com.ferreusveritas.dynamictrees.api.treedata.ILeavesProperties;
 import com.ferreusveritas.dynamictrees.blocks.BlockBranch;
+import com.ferreusveritas.dynamictrees.client.LeavesColorCache;
 import com.ferreusveritas.dynamictrees.client.QuadManipulator;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
-import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -23,7 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 @SideOnly(Side.CLIENT)
 public class ModelEntityFallingTree {
@@ -32,8 +33,33 @@ public class ModelEntityFallingTree {
 	protected final int entityId;
 
 	public ModelEntityFallingTree(EntityFallingTree entity) {
-		quads = generateTreeQuads(entity, entity.getEntityWorld());
-		entityId = entity.getEntityId();
+		this(generateTreeQuads(entity, entity.getEntityWorld()), entity.getEntityId());
+	}
+
+	public ModelEntityFallingTree(List<TreeQuadData> quads, int entityId) {
+		this.quads = quads;
+		this.entityId = entityId;
+	}
+
+	/**
+	 * Creates a cheap stand-in model made of just the cut and the trunk.  It's drawn while the full model is built
+	 * in the background.
+	 */
+	public static ModelEntityFallingTree createPlaceholder(EntityFallingTree entity) {
+		BranchDestructionData destructionData = entity.getDestroyData();
+		EnumFacing.Axis axis = destructionData.cutDir.getAxis();
+
+		List<TreeQuadData> treeQuads = new ArrayList<>();
+		if (generateCutQuads(destructionData, treeQuads)) {
+			//The trunk is the run of branches that continue straight on from the cut
+			generateBranchQuads(destructionData, treeQuads, relPos -> isOnAxis(relPos, axis));
+		}
+
+		return new ModelEntityFallingTree(treeQuads, entity.getEntityId());
+	}
+
+	private static boolean isOnAxis(BlockPos relPos, EnumFacing.Axis axis) {
+		return (axis == EnumFacing.Axis.X || relPos.getX() == 0) && (axis == EnumFacing.Axis.Y || relPos.getY() == 0) && (axis == EnumFacing.Axis.Z || relPos.getZ() == 0);
 	}
 
 	public List<TreeQuadData> getQuadData() {
@@ -50,24 +76,84 @@ public class ModelEntityFallingTree {
 		return world.getBlockState(destructionData.cutPos).getPackedLightmapCoords(world, destructionData.cutPos);
 	}
 
-	public List<TreeQuadData> generateTreeQuads(EntityFallingTree entity, World world) {
-		final BlockRendererDispatcher dispatcher = Minecraft.getMinecraft().getBlockRendererDispatcher();
-		final BranchDestructionData destructionData = entity.getDestroyData();
-		final Species species = destructionData.species;
-		final BlockPos cutPos = destructionData.cutPos;
-		final EnumFacing cutDir = destructionData.cutDir;
+	/**
+	 * Builds the quads of the whole tree on the calling thread.
+	 */
+	public static List<TreeQuadData> generateTreeQuads(EntityFallingTree entity, World world) {
+		return generateTreeQuads(entity.getDestroyData(), LeavesSnapshot.resolve(entity.getDestroyData(), world));
+	}
 
+	/**
+	 * Builds the quads of the whole tree.  Only reads the destruction data, the baked models and the leaves snapshot
+	 * taken beforehand so it may run on a worker thread.  Stops early if the thread is interrupted.
+	 */
+	public static List<TreeQuadData> generateTreeQuads(BranchDestructionData destructionData, LeavesSnapshot leaves) {
 		final ArrayList<TreeQuadData> treeQuads = new ArrayList<>();
 
+		if (generateCutQuads(destructionData, treeQuads)) {
+			generateBranchQuads(destructionData, treeQuads, relPos -> true);
+			generateLeavesQuads(destructionData, treeQuads, leaves);
+		}
+
+		return treeQuads;
+	}
+
+	/**
+	 * The leaves of a falling tree as they're drawn.  The colors come from the biomes around the tree and the leaves
+	 * clusters come from the tree family which may be an add-on, so both are resolved on the client thread and handed
+	 * to the builder.
+	 */
+	public static final class LeavesSnapshot {
+
+		public final HashMap<BlockPos, IBlockState> clusters;//Null unless the family draws its leaves as clusters
+		public final int clustersColor;//Used for every leaves cluster
+		public final int[] colors;//Indexed like the leaves of the destruction data
+
+		private LeavesSnapshot(HashMap<BlockPos, IBlockState> clusters, int clustersColor, int[] colors) {
+			this.clusters = clusters;
+			this.clustersColor = clustersColor;
+			this.colors = colors;
+		}
+
+		/**
+		 * Reads the world and calls into the tree family so it must only be called on the client thread.
+		 */
+		public static LeavesSnapshot resolve(BranchDestructionData destructionData, World world) {
+			final ILeavesProperties properties = destructionData.species.getLeavesProperties();
+			final BlockPos cutPos = destructionData.cutPos;
+
+			HashMap<BlockPos, IBlockState> clusters = destructionData.species.getFamily().getFellingLeavesClusters(destructionData);
+			if (clusters != null) {
+				return new LeavesSnapshot(clusters, LeavesColorCache.getColor(properties, properties.getDynamicLeavesState(), world, cutPos), null);
+			}
+
+			int[] colors = new int[destructionData.getNumLeaves()];
+			for (int index = 0; index < colors.length; index++) {
+				colors[index] = LeavesColorCache.getColor(destructionData.getLeavesProperties(index), destructionData.getLeavesBlockState(index), world, cutPos.add(destructionData.getLeavesRelPos(index)));
+			}
+
+			return new LeavesSnapshot(null, 0, colors);
+		}
+
+	}
+
+	/**
+	 * Draw the ring texture cap on the cut block
+	 *
+	 * @return false if there's no tree to draw
+	 */
+	private static boolean generateCutQuads(BranchDestructionData destructionData, List<TreeQuadData> treeQuads) {
+		final BlockRendererDispatcher dispatcher = Minecraft.getMinecraft().getBlockRendererDispatcher();
+		final EnumFacing cutDir = destructionData.cutDir;
+
 		if (destructionData.getNumBranches() <= 0) {
-			return treeQuads;
+			return false;
 		}
 
-		// Draw the ring texture cap on the cut block
 		IExtendedBlockState exState = destructionData.getBranchBlockState(0);
 
 		if (exState == null) {
-			return treeQuads;
+			return false;
 		}
 
 		for (EnumFacing face : EnumFacing.VALUES) {
@@ -76,46 +162,81 @@ public class ModelEntityFallingTree {
 		int radius = ((BlockBranch) exState.getBlock()).getRadius(exState);
 		float offset = (8 - Math.min(radius, BlockBranch.RADMAX_NORMAL)) / 16f;
 		IBakedModel branchModel = dispatcher.getModelForState(exState.getClean()); // Since we source the blockState from the destruction data it will always be the same
-		treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(branchModel, exState, new Vec3d(BlockPos.ORIGIN.offset(cutDir)).scale(offset), new EnumFacing[]{cutDir}), 0xFFFFFFFF, exState.getClean()));
+		treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(branchModel, exState, new EnumFacing[]{cutDir}), 0xFFFFFFFF, exState.getClean(), new Vec3d(BlockPos.ORIGIN.offset(cutDir)).scale(offset)));
+
+		return true;
+	}
+
+	// Draw the rest of the tree/branch
+	private static void generateBranchQuads(BranchDestructionData destructionData, List<TreeQuadData> treeQuads, Predicate<BlockPos> filter) {
+		final BlockRendererDispatcher dispatcher = Minecraft.getMinecraft().getBlockRendererDispatcher();
+
+		Block previousBranch = null;
+		IBakedModel branchModel = null;
 
-		// Draw the rest of the tree/branch
 		for (int index = 0; index < destructionData.getNumBranches(); index++) {
-			Block previousBranch = exState.getBlock();
-			exState = destructionData.getBranchBlockState(index);
-			if (!previousBranch.equals(exState.getBlock())) // Update the branch model only if the block is different
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			BlockPos relPos = destructionData.getBranchRelPos(index);
+			if (!filter.test(relPos)) {
+				continue;
+			}
+			IExtendedBlockState exState = destructionData.getBranchBlockState(index);
+			if (!exState.getBlock().equals(previousBranch)) // Update the branch model only if the block is different
 			{
 				branchModel = dispatcher.getModelForState(exState.getClean());
+				previousBranch = exState.getBlock();
 			}
-			BlockPos relPos = destructionData.getBranchRelPos(index);
-			treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(branchModel, exState, new Vec3d(relPos)), 0xFFFFFFFF, exState.getClean()));
+			treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(branchModel, exState), 0xFFFFFFFF, exState.getClean(), new Vec3d(relPos)));
 		}
+	}
+
+	// Draw the leaves
+	private static void generateLeavesQuads(BranchDestructionData destructionData, List<TreeQuadData> treeQuads, LeavesSnapshot leaves) {
+		final BlockRendererDispatcher dispatcher = Minecraft.getMinecraft().getBlockRendererDispatcher();
 
-		// Draw the leaves
-		HashMap<BlockPos, IBlockState> leavesClusters = species.getFamily().getFellingLeavesClusters(destructionData);
+		HashMap<BlockPos, IBlockState> leavesClusters = leaves.clusters;
 		if (leavesClusters != null) {
 			for (Entry<BlockPos, IBlockState> leafLoc : leavesClusters.entrySet()) {
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
 				IBlockState leafState = leafLoc.getValue();
 				if (leafState instanceof IExtendedBlockState) {
 					leafState = ((IExtendedBlockState) leafState).getClean();
 				}
-				treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(dispatcher.getModelForState(leafState), leafLoc.getValue(), new Vec3d(leafLoc.getKey())),
-					species.getLeavesProperties().foliageColorMultiplier(leafState, world, cutPos), leafState));
+				treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(dispatcher.getModelForState(leafState), leafLoc.getValue()),
+					leaves.clustersColor, leafState, new Vec3d(leafLoc.getKey())));
 			}
 		} else {
 			for (int index = 0; index < destructionData.getNumLeaves(); index++) {
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
 				BlockPos relPos = destructionData.getLeavesRelPos(index);
 				IBlockState state = destructionData.getLeavesBlockState(index);
 				IBakedModel leavesModel = dispatcher.getModelForState(state);
-				treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(leavesModel, state, new Vec3d(relPos)),
-					destructionData.getLeavesProperties(index).foliageColorMultiplier(state, world, cutPos.add(relPos)), state));
+				treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(leavesModel, state),
+					leaves.colors[index], state, new Vec3d(relPos)));
 			}
 		}
-
-		return treeQuads;
 	}
 
 	public static List<TreeQuadData> toTreeQuadData(List<BakedQuad> bakedQuads, int color, IBlockState state) {
-		return bakedQuads.stream().map(bakedQuad -> new TreeQuadData(bakedQuad, color, state)).collect(Collectors.toList());
+		return toTreeQuadData(bakedQuads, color, state, Vec3d.ZERO);
+	}
+
+	/**
+	 * Wraps quads that are drawn moved by an offset.  The quads themselves are shared with the block model and are
+	 * moved as they are written to the buffer.
+	 */
+	public static List<TreeQuadData> toTreeQuadData(List<BakedQuad> bakedQuads, int color, IBlockState state, Vec3d offset) {
+		List<TreeQuadData> quadData = new ArrayList<>(bakedQuads.size());
+		for (BakedQuad bakedQuad : bakedQuads) {
+			quadData.add(new TreeQuadData(bakedQuad, color, state, offset));
+		}
+		return quadData;
 	}
 
 	public static final class TreeQuadData {
@@ -123,11 +244,17 @@ public class ModelEntityFallingTree {
 		public final BakedQuad bakedQuad;
 		public final IBlockState state;
 		public final int color;
+		public final Vec3d offset;//The offset of the quad from the cut position
 
 		public TreeQuadData(BakedQuad bakedQuad, int color, IBlockState state) {
+			this(bakedQuad, color, state, Vec3d.ZERO);
+		}
+
+		public TreeQuadData(BakedQuad bakedQuad, int color, IBlockState state, Vec3d offset) {
 			this.bakedQuad = bakedQuad;
 			this.state = state;
 			this.color = color;
+			this.offset = offset;
 		}
 
 	}
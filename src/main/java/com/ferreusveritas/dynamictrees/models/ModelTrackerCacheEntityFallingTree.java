@@ -1,39 +1,204 @@
 package com.ferreusveritas.dynamictrees.models;
 
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.ModConfigs;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
+import com.ferreusveritas.dynamictrees.models.ModelEntityFallingTree.LeavesSnapshot;
+import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.client.Minecraft;
 import net.minecraft.world.World;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * Keeps the models of the falling trees in the client world.
+ * <p>
+ * The models are held in least recently drawn order and weighed by their number of quads.  When the total weight
+ * goes over {@link ModConfigs#fallingTreeModelCacheQuads} the least recently drawn models are dropped and rebuilt if
+ * they're ever drawn again.  Models are dropped as soon as their entity dies or leaves the client world and all of
+ * them are dropped when the world unloads.  Usage is listed on the F3 screen.
+ */
 @SideOnly(Side.CLIENT)
 public class ModelTrackerCacheEntityFallingTree {
 
-	public static Map<Integer, ModelEntityFallingTree> modelMap = new ConcurrentHashMap<>();
+	//Only used from the client thread.  Ordered from least to most recently drawn.
+	public static final Map<Integer, ModelEntityFallingTree> modelMap = new LinkedHashMap<>(16, 0.75f, true);
 
+	//Trees with fewer branches than this are small enough to build on the spot
+	private static final int ASYNCBRANCHES = 32;
+	private static final int WORKERS = 2;
+
+	//Rough size of a quad in a falling tree model.  The vertex data is shared with the block models so this is just the
+	//quad's wrapper and its slot in the list.
+	private static final int BYTESPERQUAD = 48;
+
+	private static ExecutorService executor;
+	private static final Map<Integer, PendingModel> pendingMap = new ConcurrentHashMap<>();
+
+	private static long residentQuads = 0;
+	private static long evictions = 0;
+
+	private static class PendingModel {
+		final ModelEntityFallingTree placeholder;
+		final Future<ModelEntityFallingTree> future;
+
+		PendingModel(ModelEntityFallingTree placeholder, Future<ModelEntityFallingTree> future) {
+			this.placeholder = placeholder;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * Gets the model of a falling tree.  Large trees are built on a worker thread and a model of just their trunk is
+	 * returned until the full model is done.  The worker only sees the destruction data and the leaves colors and
+	 * clusters which are resolved beforehand.
+	 */
 	public static ModelEntityFallingTree getModel(EntityFallingTree entity) {
-		return modelMap.computeIfAbsent(entity.getEntityId(), e -> new ModelEntityFallingTree(entity));
+		int id = entity.getEntityId();
+		ModelEntityFallingTree model = modelMap.get(id);
+
+		if (model != null) {
+			return model;
+		}
+
+		if (entity.getDestroyData().getNumBranches() < ASYNCBRANCHES) {
+			return addModel(id, new ModelEntityFallingTree(entity));
+		}
+
+		PendingModel pending = pendingMap.computeIfAbsent(id, e -> {
+			//The world and add-on tree families aren't safe to use from other threads so the leaves are resolved here first
+			BranchDestructionData destructionData = entity.getDestroyData();
+			LeavesSnapshot leaves = LeavesSnapshot.resolve(destructionData, entity.getEntityWorld());
+			return new PendingModel(
+				ModelEntityFallingTree.createPlaceholder(entity),
+				getExecutor().submit(() -> new ModelEntityFallingTree(ModelEntityFallingTree.generateTreeQuads(destructionData, leaves), id))
+			);
+		});
+
+		if (!pending.future.isDone()) {
+			return pending.placeholder;
+		}
+
+		try {
+			model = pending.future.get();
+		} catch (InterruptedException | ExecutionException e) {
+			DynamicTrees.log.warn("Unable to build the model of falling tree " + id + ": " + e.getMessage());
+			model = pending.placeholder;//Don't try again every frame
+		}
+
+		pendingMap.remove(id);
+		return addModel(id, model);
+	}
+
+	private static ModelEntityFallingTree addModel(int id, ModelEntityFallingTree model) {
+		removeModel(id);
+		modelMap.put(id, model);
+		residentQuads += model.getQuadData().size();
+
+		//Drop the least recently drawn models until we're within budget.  The new model always stays.
+		Iterator<Map.Entry<Integer, ModelEntityFallingTree>> iter = modelMap.entrySet().iterator();
+		while (residentQuads > ModConfigs.fallingTreeModelCacheQuads && modelMap.size() > 1) {
+			residentQuads -= iter.next().getValue().getQuadData().size();
+			iter.remove();
+			evictions++;
+		}
+
+		return model;
+	}
+
+	private static void removeModel(int id) {
+		ModelEntityFallingTree model = modelMap.remove(id);
+		if (model != null) {
+			residentQuads -= model.getQuadData().size();
+		}
+	}
+
+	private static ExecutorService getExecutor() {
+		if (executor == null) {
+			executor = Executors.newFixedThreadPool(WORKERS, new ThreadFactoryBuilder().setNameFormat("DynamicTrees Falling Tree Builder %d").setDaemon(true).build());
+		}
+		return executor;
 	}
 
 	private static int cleanupCounter = 0;
 
 	public static void cleanupModels(World world, EntityFallingTree entity) {
-		modelMap.remove(entity.getEntityId());//Ideally each tree should remove itself and the list is kept tidy
+		removeModel(entity.getEntityId());//Ideally each tree should remove itself and the list is kept tidy
+		cancel(entity.getEntityId());
 
 		if (++cleanupCounter >= 10) {//Every 10 cleanups check the list to see if there's any stragglers
 			cleanupCounter = 0;
-			Iterator<Integer> iter = modelMap.keySet().iterator();
 
-			while (iter.hasNext()) {
-				int id = iter.next();
+			for (int id : new ArrayList<>(modelMap.keySet())) {
+				if (world.getEntityByID(id) == null) {
+					removeModel(id);
+				}
+			}
+
+			for (int id : pendingMap.keySet()) {
 				if (world.getEntityByID(id) == null) {
-					modelMap.remove(id);
+					cancel(id);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Stop building the model of a tree that's gone
+	 */
+	private static void cancel(int id) {
+		PendingModel pending = pendingMap.remove(id);
+		if (pending != null) {
+			pending.future.cancel(true);
+		}
+	}
+
+	public static void clear() {
+		modelMap.clear();
+		residentQuads = 0;
+		for (PendingModel pending : pendingMap.values()) {
+			pending.future.cancel(true);
+		}
+		pendingMap.clear();
+	}
+
+	/**
+	 * @return Lines describing the models held
+	 */
+	public static List<String> getStats() {
+		List<String> lines = new ArrayList<>();
+		lines.add(String.format("DT falling trees: %d models, %d quads, ~%d KB", modelMap.size(), residentQuads, residentQuads * BYTESPERQUAD / 1024));
+		lines.add(String.format("DT falling trees: %d building, %d evicted", pendingMap.size(), evictions));
+		return lines;
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		if (event.getWorld().isRemote) {
+			clear();
+		}
+	}
+
+	@SubscribeEvent
+	public static void onDebugText(RenderGameOverlayEvent.Text event) {
+		if (Minecraft.getMinecraft().gameSettings.showDebugInfo && (!modelMap.isEmpty() || !pendingMap.isEmpty())) {
+			event.getLeft().addAll(getStats());
+		}
+	}
+
 }
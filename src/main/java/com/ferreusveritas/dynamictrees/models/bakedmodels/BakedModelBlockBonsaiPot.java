@@ -20,15 +20,16 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SideOnly(Side.CLIENT)
 public class BakedModelBlockBonsaiPot implements IBakedModel {
 
 	protected IBakedModel basePotModel;
-	protected Map<Species, List<BakedQuad>> cachedSaplingQuads = new HashMap<>();
+	protected Map<IBlockState, Map<Species, List<BakedQuad>>> cachedQuads = new ConcurrentHashMap<>();//Complete pot and sapling quads by pot state
 
 	public BakedModelBlockBonsaiPot(IBakedModel basePotModel) {
 		this.basePotModel = basePotModel;
@@ -37,10 +38,8 @@ public class BakedModelBlockBonsaiPot implements IBakedModel {
 	@Override
 	public List<BakedQuad> getQuads(IBlockState state, EnumFacing side, long rand) {
 
-		List<BakedQuad> quads = new ArrayList<BakedQuad>();
-
 		if (side != null) {
-			return quads;
+			return Collections.emptyList();
 		}
 
 		Species species = Species.NULLSPECIES;
@@ -51,17 +50,20 @@ public class BakedModelBlockBonsaiPot implements IBakedModel {
 			potState = ((IExtendedBlockState) state).getValue(BlockBonsaiPot.POT);
 		}
 		if (species == null || species == Species.NULLSPECIES || !(potState.getBlock() instanceof BlockFlowerPot)) {
-			return quads;
+			return Collections.emptyList();
 		}
 
-		BlockRendererDispatcher dispatcher = Minecraft.getMinecraft().getBlockRendererDispatcher();
-		IBakedModel potModel = dispatcher.getModelForState(potState);
-		IBakedModel saplingModel = BakedModelSapling.getModelForSapling(species);
-
-		quads.addAll(potModel.getQuads(potState, side, rand));
-		quads.addAll(cachedSaplingQuads.computeIfAbsent(species, s -> QuadManipulator.getQuads(saplingModel, ModBlocks.blockDynamicSapling.getDefaultState(), new Vec3d(0, 0.25, 0), rand)));
-
-		return quads;
+		final IBlockState pot = potState;
+		return cachedQuads.computeIfAbsent(pot, p -> new ConcurrentHashMap<>()).computeIfAbsent(species, s -> {
+			BlockRendererDispatcher dispatcher = Minecraft.getMinecraft().getBlockRendererDispatcher();
+			IBakedModel potModel = dispatcher.getModelForState(pot);
+			IBakedModel saplingModel = BakedModelSapling.getModelForSapling(s);
+
+			//The sapling is moved up into the pot once and the result is shared by every pot of this species
+			List<BakedQuad> quads = new ArrayList<>(potModel.getQuads(pot, null, rand));
+			quads.addAll(QuadManipulator.getQuads(saplingModel, ModBlocks.blockDynamicSapling.getDefaultState(), new Vec3d(0, 0.25, 0), rand));
+			return Collections.unmodifiableList(quads);
+		});
 	}
 
 	@Override
@@ -21,6 +21,7 @@ import org.lwjgl.util.vector.Vector3f;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @SideOnly(Side.CLIENT)
@@ -34,6 +35,10 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 	private final IBakedModel[][] sleeves = new IBakedModel[6][7];
 	private final IBakedModel[][] cores = new IBakedModel[3][8]; // 8 Cores for 3 axis with the bark texture and all 6 sides rotated appropriately.
 	private final IBakedModel[] rings = new IBakedModel[8]; // 8 Cores with the ring textures on all 6 sides
+	private final IBakedModel[][] columns = new IBakedModel[7][3]; // Bark sides of vertical cores merged with the sleeves below, above or both
+	private final Map<Integer, IBakedModel> lodModels = new ConcurrentHashMap<>(); // Simplified models for distant branches keyed by their connection signature
+	private final IBakedModel lodEmpty; // Distant twigs are hidden
+	private final TextureAtlasSprite barkIcon;
 
 	public BakedModelBlockBranchBasic(ResourceLocation barkRes, ResourceLocation ringsRes, Function<ResourceLocation, TextureAtlasSprite> bakedTextureGetter) {
 		this.modelBlock = new ModelBlock(null, null, null, false, false, ItemCameraTransforms.DEFAULT, null);
@@ -41,6 +46,8 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 		TextureAtlasSprite barkIcon = bakedTextureGetter.apply(barkRes);
 		TextureAtlasSprite ringIcon = bakedTextureGetter.apply(ringsRes);
 		barkParticles = barkIcon;
+		this.barkIcon = barkIcon;
+		lodEmpty = new SimpleBakedModel.Builder(modelBlock, ItemOverrideList.NONE).setTexture(barkIcon).makeBakedModel();
 
 		for (int i = 0; i < 8; i++) {
 			int radius = i + 1;
@@ -48,6 +55,9 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 				for (EnumFacing dir : EnumFacing.VALUES) {
 					sleeves[dir.getIndex()][i] = bakeSleeve(radius, dir, barkIcon);
 				}
+				for (int column = 1; column <= 3; column++) {
+					columns[i][column - 1] = bakeColumn(radius, (column & 1) != 0, (column & 2) != 0, barkIcon);
+				}
 			}
 			cores[0][i] = bakeCore(radius, Axis.Y, barkIcon); //DOWN<->UP
 			cores[1][i] = bakeCore(radius, Axis.Z, barkIcon); //NORTH<->SOUTH
@@ -130,6 +140,81 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 		return builder.makeBakedModel();
 	}
 
+	/**
+	 * Bakes the 4 bark sides of a vertical core that runs into equally thick branches above and/or below.  Each side
+	 * is a single quad in place of the 3 stacked quads of the core and its sleeves.  The UVs are the same as the
+	 * pieces it replaces so the result looks identical.
+	 */
+	public IBakedModel bakeColumn(int radius, boolean down, boolean up, TextureAtlasSprite bark) {
+		float bottom = down ? 0 : 8 - radius;
+		float top = up ? 16 : 8 + radius;
+
+		Vector3f posFrom = new Vector3f(8 - radius, bottom, 8 - radius);
+		Vector3f posTo = new Vector3f(8 + radius, top, 8 + radius);
+
+		Map<EnumFacing, BlockPartFace> mapFacesIn = Maps.newEnumMap(EnumFacing.class);
+
+		for (EnumFacing face : EnumFacing.HORIZONTALS) {
+			BlockFaceUV uvface = new BlockFaceUV(new float[]{8 - radius, 16 - top, 8 + radius, 16 - bottom}, getFaceAngle(Axis.Y, face));
+			mapFacesIn.put(face, new BlockPartFace(null, -1, null, uvface));
+		}
+
+		BlockPart part = new BlockPart(posFrom, posTo, mapFacesIn, null, true);
+		SimpleBakedModel.Builder builder = new SimpleBakedModel.Builder(modelBlock, ItemOverrideList.NONE).setTexture(bark);
+
+		for (Map.Entry<EnumFacing, BlockPartFace> e : part.mapFaces.entrySet()) {
+			EnumFacing face = e.getKey();
+			builder.addFaceQuad(face, ModelUtils.makeBakedQuad(part, e.getValue(), bark, face, ModelRotation.X0_Y0, false));
+		}
+
+		return builder.makeBakedModel();
+	}
+
+	/**
+	 * Bakes the bark box of a simplified branch.  The box runs along the axis and reaches the edge of the block on
+	 * each end that has a connection.  The faces on those ends are left out since they'd be hidden by the next
+	 * branch anyway.
+	 */
+	public IBakedModel bakeLodCore(int radius, Axis axis, boolean negConnected, boolean posConnected, TextureAtlasSprite bark) {
+		int start = negConnected ? 0 : 8 - radius;
+		int end = posConnected ? 16 : 8 + radius;
+
+		Vector3f posFrom = new Vector3f(8 - radius, 8 - radius, 8 - radius);
+		Vector3f posTo = new Vector3f(8 + radius, 8 + radius, 8 + radius);
+		setAxisComponent(posFrom, axis, start);
+		setAxisComponent(posTo, axis, end);
+
+		Map<EnumFacing, BlockPartFace> mapFacesIn = Maps.newEnumMap(EnumFacing.class);
+
+		for (EnumFacing face : EnumFacing.VALUES) {
+			if (face.getAxis() == axis && (face.getAxisDirection() == AxisDirection.NEGATIVE ? negConnected : posConnected)) {
+				continue;
+			}
+			//Leaving the UVs out lets the block part project them from the box
+			mapFacesIn.put(face, new BlockPartFace(null, -1, null, new BlockFaceUV(null, getFaceAngle(axis, face))));
+		}
+
+		BlockPart part = new BlockPart(posFrom, posTo, mapFacesIn, null, true);
+		SimpleBakedModel.Builder builder = new SimpleBakedModel.Builder(modelBlock, ItemOverrideList.NONE).setTexture(bark);
+
+		for (Map.Entry<EnumFacing, BlockPartFace> e : part.mapFaces.entrySet()) {
+			EnumFacing face = e.getKey();
+			builder.addFaceQuad(face, ModelUtils.makeBakedQuad(part, e.getValue(), bark, face, ModelRotation.X0_Y0, false));
+		}
+
+		return builder.makeBakedModel();
+	}
+
+	private static void setAxisComponent(Vector3f vec, Axis axis, float value) {
+		if (axis == Axis.X) {
+			vec.setX(value);
+		} else if (axis == Axis.Y) {
+			vec.setY(value);
+		} else {
+			vec.setZ(value);
+		}
+	}
+
 	/**
 	 * A Hack to determine the UV face angle for a block column on a certain axis
 	 *
@@ -169,6 +254,10 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 		int coreRadius = getRadius(state);
 		int[] connections = pollConnections(coreRadius, extendedState);
 
+		if (isLod(extendedState)) {
+			return getLodModel(coreRadius, connections).getQuads(state, side, rand);
+		}
+
 		// Count number of connections
 		int numConnections = 0;
 		for (int i : connections) {
@@ -185,9 +274,14 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 		// This is for drawing the rings on a terminating branch
 		EnumFacing coreRingDir = (numConnections == 1) ? sourceDir.getOpposite() : null;
 
+		// Vertical cores with equally thick branches above or below draw their sides as one column with those sleeves
+		int column = coreDir == 0 ? getColumn(coreRadius, connections) : 0;
+
 		// Get quads for core model
 		if (side == null || coreRadius != connections[side.getIndex()]) {
-			if (coreRingDir == null || coreRingDir != side) {
+			if (column != 0 && side != null && side.getAxis() != Axis.Y) {
+				quadsList.addAll(columns[coreRadius - 1][column - 1].getQuads(state, side, rand));
+			} else if (coreRingDir == null || coreRingDir != side) {
 				quadsList.addAll(cores[coreDir][coreRadius - 1].getQuads(state, side, rand));
 			} else {
 				quadsList.addAll(rings[coreRadius - 1].getQuads(state, side, rand));
@@ -198,6 +292,10 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 			for (EnumFacing connDir : EnumFacing.VALUES) {
 				int idx = connDir.getIndex();
 				int connRadius = connections[idx];
+				// Sleeves merged into the column are already drawn
+				if ((connDir == EnumFacing.DOWN && (column & 1) != 0) || (connDir == EnumFacing.UP && (column & 2) != 0)) {
+					continue;
+				}
 				// If the connection side matches the quadpull side then cull the sleeve face.  Don't cull radius 1 connections for leaves(which are partly transparent).
 				if (connRadius > 0 && (connRadius == 1 || side != connDir)) {
 					quadsList.addAll(sleeves[idx][connRadius - 1].getQuads(extendedState, side, rand));
@@ -208,6 +306,92 @@ public class BakedModelBlockBranchBasic implements IBakedModel {
 		return quadsList;
 	}
 
+	/**
+	 * @return A bitmask of the vertical sleeves that can be merged with the core.  1 for down, 2 for up, 0 for none.
+	 * Twigs are excluded since their sleeves keep their end faces for the leaves around them.  Cores with an equally
+	 * thick side branch are excluded since the core face on that side is culled while the sleeve faces above and below
+	 * it are not.
+	 */
+	protected int getColumn(int coreRadius, int[] connections) {
+		if (coreRadius < 2 || coreRadius > 7) {
+			return 0;
+		}
+		for (EnumFacing dir : EnumFacing.HORIZONTALS) {
+			if (connections[dir.getIndex()] == coreRadius) {
+				return 0;
+			}
+		}
+		return (connections[EnumFacing.DOWN.getIndex()] == coreRadius ? 1 : 0) | (connections[EnumFacing.UP.getIndex()] == coreRadius ? 2 : 0);
+	}
+
+	/**
+	 * @return true if the branch was marked to be drawn with simplified geometry
+	 */
+	protected boolean isLod(IExtendedBlockState extendedState) {
+		return extendedState.getUnlistedNames().contains(BlockBranch.LOD) && Boolean.TRUE.equals(extendedState.getValue(BlockBranch.LOD));
+	}
+
+	/**
+	 * Gets the simplified model of a distant branch.  Twigs are hidden since they're mostly covered by leaves.  The
+	 * core and the sleeves along its axis are merged into a single box and side connections are only drawn when
+	 * they're thicker than a twig.  The models are baked on first use and shared by every branch with the same
+	 * signature.
+	 */
+	protected IBakedModel getLodModel(int coreRadius, int[] connections) {
+		if (coreRadius <= 1) {
+			return lodEmpty;
+		}
+
+		EnumFacing sourceDir = getSourceDir(coreRadius, connections);
+		Axis axis = sourceDir != null ? sourceDir.getAxis() : Axis.Y;
+
+		int signature = coreRadius;
+		for (EnumFacing dir : EnumFacing.VALUES) {
+			int connRadius = connections[dir.getIndex()];
+			if (dir.getAxis() == axis) {
+				connRadius = connRadius > 0 ? 1 : 0;
+			} else if (connRadius <= 1 || coreRadius == 8) {
+				connRadius = 0;
+			}
+			signature |= connRadius << (4 + dir.getIndex() * 3);//Connections are never thicker than the core so 3 bits will do
+		}
+		signature |= axis.ordinal() << 22;
+
+		return lodModels.computeIfAbsent(signature, s -> bakeLodModel(coreRadius, axis, connections));
+	}
+
+	private IBakedModel bakeLodModel(int coreRadius, Axis axis, int[] connections) {
+		boolean negConnected = connections[EnumFacing.getFacingFromAxis(AxisDirection.NEGATIVE, axis).getIndex()] > 0;
+		boolean posConnected = connections[EnumFacing.getFacingFromAxis(AxisDirection.POSITIVE, axis).getIndex()] > 0;
+		IBakedModel core = bakeLodCore(coreRadius, axis, negConnected, posConnected, barkIcon);
+
+		SimpleBakedModel.Builder builder = new SimpleBakedModel.Builder(modelBlock, ItemOverrideList.NONE).setTexture(barkIcon);
+
+		for (EnumFacing face : EnumFacing.VALUES) {
+			for (BakedQuad quad : core.getQuads(null, face, 0)) {
+				builder.addFaceQuad(face, quad);
+			}
+		}
+
+		if (coreRadius != 8) {
+			for (EnumFacing connDir : EnumFacing.VALUES) {
+				int connRadius = connections[connDir.getIndex()];
+				if (connDir.getAxis() != axis && connRadius > 1) {
+					IBakedModel sleeve = sleeves[connDir.getIndex()][connRadius - 1];
+					for (EnumFacing face : EnumFacing.VALUES) {
+						if (face != connDir) {//The end of the sleeve meets the neighbor
+							for (BakedQuad quad : sleeve.getQuads(null, face, 0)) {
+								builder.addFaceQuad(face, quad);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		return builder.makeBakedModel();
+	}
+
 	/**
 	 * Checks all neighboring tree parts to determine the connection radius for each side of this branch block.
 	 *
@@ -22,6 +22,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import org.lwjgl.util.vector.Vector3f;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ public class BakedModelBlockBranchThick extends BakedModelBlockBranchBasic imple
 	private final IBakedModel[] trunksTopBark = new IBakedModel[16];//The trunk will feature bark on it's top when there's more tree on it's surface 
 	private final IBakedModel[] trunksTopRings = new IBakedModel[16];//The trunk will feature rings on it's top when there's not any tree on it's surface(cut)
 	private final IBakedModel[] trunksBotRings = new IBakedModel[16];//The trunk will always feature rings on it's bottom surface(or nothing)
+	private final IBakedModel[] trunksLod = new IBakedModel[16];//Distant trunks are plain boxes with a single quad for each face
 
 	public BakedModelBlockBranchThick(ResourceLocation barkRes, ResourceLocation ringsRes, ResourceLocation thickRingsRes, Function<ResourceLocation, TextureAtlasSprite> bakedTextureGetter) {
 		super(barkRes, ringsRes, bakedTextureGetter);
@@ -49,6 +51,7 @@ public class BakedModelBlockBranchThick extends BakedModelBlockBranchBasic imple
 			trunksTopBark[i] = bakeTrunkBark(radius, barkIcon, false);
 			trunksTopRings[i] = bakeTrunkRings(radius, ModConfigs.fancyThickRings ? thickRingIcon : ringIcon, EnumFacing.UP);
 			trunksBotRings[i] = bakeTrunkRings(radius, ModConfigs.fancyThickRings ? thickRingIcon : ringIcon, EnumFacing.DOWN);
+			trunksLod[i] = bakeTrunkLod(radius, barkIcon, ModConfigs.fancyThickRings ? thickRingIcon : ringIcon);
 		}
 
 	}
@@ -138,6 +141,35 @@ public class BakedModelBlockBranchThick extends BakedModelBlockBranchBasic imple
 		return builder.makeBakedModel();
 	}
 
+	/**
+	 * Bakes the simplified trunk drawn for distant thick branches.  Each side of the trunk is a single stretched bark
+	 * quad spanning the whole trunk instead of up to 3 pieces and the ends are single ring quads instead of up to 9.
+	 */
+	public IBakedModel bakeTrunkLod(int radius, TextureAtlasSprite bark, TextureAtlasSprite ring) {
+		SimpleBakedModel.Builder builder = new SimpleBakedModel.Builder(modelBlock, ItemOverrideList.NONE).setTexture(bark);
+
+		Vector3f posFrom = new Vector3f(8 - radius, 0, 8 - radius);
+		Vector3f posTo = new Vector3f(8 + radius, 16, 8 + radius);
+
+		//The fancy ring texture covers the 48 texel width of a full 3x3 trunk
+		float ringMin = ModConfigs.fancyThickRings ? (8 - radius + 16) / 3f : 0;
+		float ringMax = ModConfigs.fancyThickRings ? (8 + radius + 16) / 3f : 16;
+
+		for (EnumFacing face : EnumFacing.VALUES) {
+			boolean end = face.getAxis() == Axis.Y;
+			TextureAtlasSprite icon = end ? ring : bark;
+
+			Map<EnumFacing, BlockPartFace> mapFacesIn = Maps.newEnumMap(EnumFacing.class);
+			BlockFaceUV uvface = new BlockFaceUV(end ? new float[]{ringMin, ringMin, ringMax, ringMax} : new float[]{0, 0, 16, 16}, getFaceAngle(Axis.Y, face));
+			mapFacesIn.put(face, new BlockPartFace(null, -1, null, uvface));
+
+			BlockPart part = new BlockPart(posFrom, posTo, mapFacesIn, null, true);
+			builder.addFaceQuad(face, ModelUtils.makeBakedQuad(part, part.mapFaces.get(face), icon, face, ModelRotation.X0_Y0, false));
+		}
+
+		return builder.makeBakedModel();
+	}
+
 	@Override
 	public List<BakedQuad> getQuads(IBlockState state, EnumFacing side, long rand) {
 		int coreRadius = getRadius(state);
@@ -148,6 +180,10 @@ public class BakedModelBlockBranchThick extends BakedModelBlockBranchBasic imple
 
 		coreRadius = MathHelper.clamp(coreRadius, 9, 24);
 
+		if (state instanceof IExtendedBlockState && isLod((IExtendedBlockState) state)) {
+			return getLodTrunkQuads(coreRadius, (IExtendedBlockState) state, side, rand);
+		}
+
 		List<BakedQuad> quadsList = new ArrayList<>(30);
 		quadsList.addAll(trunksBark[coreRadius - 9].getQuads(state, side, rand));
 
@@ -169,6 +205,18 @@ public class BakedModelBlockBranchThick extends BakedModelBlockBranchBasic imple
 		return quadsList;
 	}
 
+	private List<BakedQuad> getLodTrunkQuads(int coreRadius, IExtendedBlockState state, EnumFacing side, long rand) {
+		if (side != null && side.getAxis() == Axis.Y) {
+			int[] connections = pollConnections(coreRadius, state);
+			//Ends that continue into more trunk are hidden. A twig on top is too small to matter from afar so the rings are drawn.
+			boolean open = side == EnumFacing.UP ? connections[1] <= 1 : connections[0] < 1;
+			if (!open) {
+				return Collections.emptyList();
+			}
+		}
+		return trunksLod[coreRadius - 9].getQuads(state, side, rand);
+	}
+
 	@Override
 	public List<BakedQuad> getCustomDamageQuads(IBlockState blockState, EnumFacing side, long rand) {
 		int coreRadius = getRadius(blockState);
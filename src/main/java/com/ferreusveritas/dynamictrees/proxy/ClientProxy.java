@@ -11,13 +11,16 @@ import com.ferreusveritas.dynamictrees.api.treedata.ITreePart;
 import com.ferreusveritas.dynamictrees.blocks.*;
 import com.ferreusveritas.dynamictrees.blocks.MimicProperty.IMimic;
 import com.ferreusveritas.dynamictrees.client.BlockColorMultipliers;
+import com.ferreusveritas.dynamictrees.client.LeavesColorCache;
 import com.ferreusveritas.dynamictrees.client.QuadManipulator;
 import com.ferreusveritas.dynamictrees.client.TextureUtils.PixelBuffer;
 import com.ferreusveritas.dynamictrees.entities.EntityFallingTree;
 import com.ferreusveritas.dynamictrees.event.BlockBreakAnimationClientHandler;
+import com.ferreusveritas.dynamictrees.event.BranchLodClientHandler;
 import com.ferreusveritas.dynamictrees.event.ModelBakeEventListener;
 import com.ferreusveritas.dynamictrees.event.TextureGenerationHandler;
 import com.ferreusveritas.dynamictrees.items.DendroPotion;
+import com.ferreusveritas.dynamictrees.models.ModelTrackerCacheEntityFallingTree;
 import com.ferreusveritas.dynamictrees.models.loaders.*;
 import com.ferreusveritas.dynamictrees.render.RenderFallingTree;
 import com.ferreusveritas.dynamictrees.trees.Species;
@@ -183,7 +186,7 @@ public class ClientProxy extends CommonProxy {
 				BlockRooty blockRooty = (BlockRooty) state.getBlock();
 				switch (tintIndex) {
 					case 0: { //Layer Zero is the green color of grass 
-						IBlockState muse = blockRooty.getMimic(world, pos);
+						IBlockState muse = RootyMimicCache.getMimic(blockRooty, world, pos);
 						if (!(muse instanceof IMimic)) { //Ensure we don't recurse endlessly
 							return blockColors.colorMultiplier(muse, world, pos, tintIndex);
 						}
@@ -223,7 +226,7 @@ public class ClientProxy extends CommonProxy {
 		//Register GrowingLeavesBlocks Colorizers
 		for (BlockDynamicLeaves leaves : LeavesPaging.getLeavesMapForModId(ModConstants.MODID).values()) {
 			ModelHelper.regColorHandler(leaves, (state, worldIn, pos, tintIndex) ->
-			TreeHelper.isLeaves(state.getBlock()) ? ((BlockDynamicLeaves) state.getBlock()).getProperties(state).foliageColorMultiplier(state, worldIn, pos) : magenta
+			TreeHelper.isLeaves(state.getBlock()) ? LeavesColorCache.getColor(((BlockDynamicLeaves) state.getBlock()).getProperties(state), state, worldIn, pos) : magenta
 					);
 		}
 		
@@ -238,6 +241,9 @@ public class ClientProxy extends CommonProxy {
 	public void registerClientEventHandlers() {
 		MinecraftForge.EVENT_BUS.register(new ModelBakeEventListener());
 		MinecraftForge.EVENT_BUS.register(TextureGenerationHandler.class);
+		MinecraftForge.EVENT_BUS.register(LeavesColorCache.class);
+		MinecraftForge.EVENT_BUS.register(ModelTrackerCacheEntityFallingTree.class);
+		MinecraftForge.EVENT_BUS.register(new BranchLodClientHandler());
 	}
 	
 	public void registerEntityRenderers() {
@@ -11,6 +11,8 @@ import com.ferreusveritas.dynamictrees.blocks.MimicProperty;
 import com.ferreusveritas.dynamictrees.cells.CellKits;
 import com.ferreusveritas.dynamictrees.event.*;
 import com.ferreusveritas.dynamictrees.growthlogic.GrowthLogicKits;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
+import com.ferreusveritas.dynamictrees.util.LeavesSectionTracker;
 import com.ferreusveritas.dynamictrees.worldgen.TreeGenCancelEventHandler;
 import com.ferreusveritas.dynamictrees.worldgen.TreeGenerator;
 import com.ferreusveritas.dynamictrees.worldgen.WorldGeneratorTrees;
@@ -35,6 +37,7 @@ public class CommonProxy {
 		CellKits.preInit();
 		GrowthLogicKits.preInit();
 		TreeGenerator.preInit();//Create the generator
+		Metrics.setEnabled(ModConfigs.enableMetrics);
 
 		ModTileEntities.preInit();
 
@@ -75,7 +78,8 @@ public class CommonProxy {
 			MinecraftForge.EVENT_BUS.register(new DropEventHandler());
 		}
 
-		if (Loader.isModLoaded("fastleafdecay")) {
+		if (ModConfigs.fastLeafDecayCompat && Loader.isModLoaded("fastleafdecay")) {
+			LeavesSectionTracker.init();
 			MinecraftForge.EVENT_BUS.register(new LeafUpdateEventHandler());
 		}
 
@@ -19,6 +19,7 @@ import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.Vec3d;
 import net.minecraftforge.fml.client.registry.IRenderFactory;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -86,14 +87,18 @@ public class RenderFallingTree extends Render<EntityFallingTree> {
 
 		for (ModelEntityFallingTree.TreeQuadData treeQuad : inQuads) {
 			int color = species == null ? treeQuad.color : species.colorTreeQuads(treeQuad.color, treeQuad, entity);
-			this.drawBakedQuad(buffer, treeQuad.bakedQuad, brightness, color);
+			this.drawBakedQuad(buffer, treeQuad.bakedQuad, treeQuad.offset, brightness, color);
 		}
 
 		tessellator.draw();
 	}
 
 	public void drawBakedQuad(BufferBuilder buffer, BakedQuad bakedQuad, int brightness, int color) {
-		buffer.addVertexData(bakedQuad.getVertexData());
+		drawBakedQuad(buffer, bakedQuad, Vec3d.ZERO, brightness, color);
+	}
+
+	public void drawBakedQuad(BufferBuilder buffer, BakedQuad bakedQuad, Vec3d offset, int brightness, int color) {
+		QuadManipulator.putQuad(buffer, bakedQuad, offset.x, offset.y, offset.z);
 		buffer.putBrightness4(brightness, brightness, brightness, brightness);
 
 		if (bakedQuad.hasTintIndex()) {
@@ -7,6 +7,8 @@ import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import com.ferreusveritas.dynamictrees.util.SimpleVoxmap;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
+import com.ferreusveritas.dynamictrees.worldgen.ColumnHeightCache;
 import net.minecraft.block.BlockOldLeaf;
 import net.minecraft.block.BlockOldLog;
 import net.minecraft.block.BlockPlanks;
@@ -89,12 +91,14 @@ public class FeatureGenBush implements IFullGenFeature, IPostGenFeature {
 
 				SimpleVoxmap leafMap = LeafClusters.bush;
 				MutableBlockPos leafPos = new MutableBlockPos();
-				for (MutableBlockPos dPos : leafMap.getAllNonZero()) {
-					leafPos.setPos(pos.getX() + dPos.getX(), pos.getY() + dPos.getY(), pos.getZ() + dPos.getZ());
+				SparseVoxmap leafCells = LeafClusters.getSparse(leafMap);
+				for (int i = 0; i < leafCells.size(); i++) {
+					leafCells.getPos(i, pos, leafPos);
 					if (safeBounds.inBounds(leafPos, true) && (coordHashCode(leafPos) % 5) != 0 && world.getBlockState(leafPos).getBlock().isReplaceable(world, leafPos)) {
 						world.setBlockState(leafPos, (secondaryLeavesState == null || random.nextInt(4) != 0) ? leavesState : secondaryLeavesState);
 					}
 				}
+				ColumnHeightCache.invalidate(world, pos, Math.max(leafMap.getLenX(), leafMap.getLenZ()));
 			}
 		}
 	}
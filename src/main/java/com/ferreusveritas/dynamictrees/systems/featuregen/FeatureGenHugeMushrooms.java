@@ -4,6 +4,7 @@ import com.ferreusveritas.dynamictrees.api.IPostGenFeature;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
+import com.ferreusveritas.dynamictrees.worldgen.ColumnHeightCache;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
@@ -79,7 +80,9 @@ public class FeatureGenHugeMushrooms implements IPostGenFeature {
 					if (maxHeight >= 2) {
 						int height = MathHelper.clamp(rand.nextInt(maxHeight) + 3, 3, maxHeight);
 
-						if (mushGen.setHeight(height).generate(world, mushPos.down(), species, biome, rand, radius, safeBounds)) {
+						boolean generated = mushGen.setHeight(height).generate(world, mushPos.down(), species, biome, rand, radius, safeBounds);
+						ColumnHeightCache.invalidate(world, mushPos, 4);
+						if (generated) {
 							if (++success >= maxShrooms) {
 								return true;
 							}
@@ -1,10 +1,13 @@
 package com.ferreusveritas.dynamictrees.systems.featuregen;
 
 import com.ferreusveritas.dynamictrees.api.IPostGenFeature;
+import com.ferreusveritas.dynamictrees.cells.LeafClusters;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import com.ferreusveritas.dynamictrees.util.SimpleVoxmap;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
+import com.ferreusveritas.dynamictrees.worldgen.ColumnHeightCache;
 import net.minecraft.block.BlockOldLeaf;
 import net.minecraft.block.BlockOldLog;
 import net.minecraft.block.BlockPlanks;
@@ -50,12 +53,14 @@ public class FeatureGenUndergrowth implements IPostGenFeature {
 
 					SimpleVoxmap leafMap = species.getLeavesProperties().getCellKit().getLeafCluster();
 					MutableBlockPos leafPos = new MutableBlockPos();
-					for (MutableBlockPos dPos : leafMap.getAllNonZero()) {
-						leafPos.setPos(pos.getX() + dPos.getX(), pos.getY() + dPos.getY(), pos.getZ() + dPos.getZ());
+					SparseVoxmap leafCells = LeafClusters.getSparse(leafMap);
+					for (int i = 0; i < leafCells.size(); i++) {
+						leafCells.getPos(i, pos, leafPos);
 						if (safeBounds.inBounds(leafPos, true) && (CoordUtils.coordHashCode(leafPos, 0) % 5) != 0 && world.getBlockState(leafPos).getBlock().isReplaceable(world, leafPos)) {
 							world.setBlockState(leafPos, leavesState);
 						}
 					}
+					ColumnHeightCache.invalidate(world, pos, Math.max(leafMap.getLenX(), leafMap.getLenZ()));
 				}
 			}
 
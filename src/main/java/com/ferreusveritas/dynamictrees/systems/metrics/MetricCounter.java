@@ -0,0 +1,43 @@
+package com.ferreusveritas.dynamictrees.systems.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free event counter.  Increments are discarded while {@link Metrics} are disabled.
+ *
+ * @author ferreusveritas
+ */
+public class MetricCounter {
+
+	private final String name;
+	private final LongAdder count = new LongAdder();
+
+	public MetricCounter(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void increment() {
+		if (Metrics.enabled) {
+			count.increment();
+		}
+	}
+
+	public void add(long amount) {
+		if (Metrics.enabled) {
+			count.add(amount);
+		}
+	}
+
+	public long get() {
+		return count.sum();
+	}
+
+	public void reset() {
+		count.reset();
+	}
+
+}
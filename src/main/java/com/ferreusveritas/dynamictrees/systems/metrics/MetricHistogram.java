@@ -0,0 +1,103 @@
+package com.ferreusveritas.dynamictrees.systems.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.  Samples are sorted into power of two buckets so
+ * percentiles are approximate to within a factor of two, which is plenty for spotting hot paths.
+ *
+ * @author ferreusveritas
+ */
+public class MetricHistogram {
+
+	private static final int BUCKETS = 64;
+
+	private final String name;
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public MetricHistogram(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Record the time elapsed since a timer obtained from {@link Metrics#startTimer()}.
+	 * Timers started while metrics were disabled are zero and are ignored.
+	 */
+	public void stopTimer(long startNanos) {
+		if (startNanos != 0) {
+			record(System.nanoTime() - startNanos);
+		}
+	}
+
+	public void record(long nanos) {
+		if (nanos < 0) {
+			return;
+		}
+		buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(nanos | 1));
+		count.increment();
+		total.add(nanos);
+
+		long prev;
+		while (nanos > (prev = max.get())) {
+			if (max.compareAndSet(prev, nanos)) {
+				break;
+			}
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTotal() {
+		return total.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		long n = getCount();
+		return n > 0 ? (double) getTotal() / n : 0;
+	}
+
+	/**
+	 * @param fraction A value from 0 to 1
+	 * @return The upper bound of the bucket holding the requested percentile in nanoseconds
+	 */
+	public long getPercentile(double fraction) {
+		long n = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			n += buckets.get(i);
+		}
+		long target = (long) Math.ceil(n * fraction);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += buckets.get(i);
+			if (seen >= target && seen > 0) {
+				return i >= 62 ? Long.MAX_VALUE : (2L << i) - 1;
+			}
+		}
+		return 0;
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets.set(i, 0);
+		}
+		count.reset();
+		total.reset();
+		max.set(0);
+	}
+
+}
@@ -0,0 +1,214 @@
+package com.ferreusveritas.dynamictrees.systems.metrics;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.ModConfigs;
+import com.ferreusveritas.dynamictrees.ModConstants;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A registry of lightweight counters and timing histograms for the hot paths of the tree simulation.
+ * <p>
+ * Everything is disabled by default.  While disabled each hook costs a single read of a volatile boolean.
+ *
+ * @author ferreusveritas
+ */
+public class Metrics {
+
+	static volatile boolean enabled = false;
+
+	private static final LongAdder ticks = new LongAdder();
+	private static int ticksUntilDump = 0;
+
+	//A single thread so that snapshots are appended in the order they were taken
+	private static final Executor dumpExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("DynamicTrees Metrics Writer").setDaemon(true).build());
+
+	//Counters
+	public static final MetricCounter ROOTY_UPDATES = new MetricCounter("rootyUpdates");
+	public static final MetricCounter GROW_SIGNALS = new MetricCounter("growSignals");
+	public static final MetricCounter LEAF_TICKS = new MetricCounter("leafTicks");
+	public static final MetricCounter ROT_CHECKS = new MetricCounter("rotChecks");
+	public static final MetricCounter ANALYSE_WALKS = new MetricCounter("analyseWalks");
+	public static final MetricCounter ANALYSE_NODES = new MetricCounter("analyseNodes");
+	public static final MetricCounter BRANCH_DESTRUCTIONS = new MetricCounter("branchDestructions");
+	public static final MetricCounter FALLING_TREES = new MetricCounter("fallingTrees");
+	public static final MetricCounter WORLDGEN_TREES = new MetricCounter("worldgenTrees");
+	public static final MetricCounter RADIUS_CHUNKS = new MetricCounter("radiusChunks");
+	public static final MetricCounter RADIUS_SAMPLES = new MetricCounter("radiusSamples");
+	public static final MetricCounter RADIUS_SAMPLE_MISSES = new MetricCounter("radiusSampleMisses");
+
+	//Timings
+	public static final MetricHistogram ROOTY_UPDATE_TIME = new MetricHistogram("rootyUpdateTime");
+	public static final MetricHistogram GROW_TIME = new MetricHistogram("growTime");
+	public static final MetricHistogram ANALYSE_TIME = new MetricHistogram("analyseTime");
+	public static final MetricHistogram DESTROY_TIME = new MetricHistogram("destroyTime");
+	public static final MetricHistogram WORLDGEN_TIME = new MetricHistogram("worldgenTime");
+
+	private static final List<MetricCounter> counters = new ArrayList<>(Arrays.asList(
+		ROOTY_UPDATES, GROW_SIGNALS, LEAF_TICKS, ROT_CHECKS, ANALYSE_WALKS, ANALYSE_NODES, BRANCH_DESTRUCTIONS, FALLING_TREES, WORLDGEN_TREES,
+		RADIUS_CHUNKS, RADIUS_SAMPLES, RADIUS_SAMPLE_MISSES
+	));
+
+	private static final List<MetricHistogram> histograms = new ArrayList<>(Arrays.asList(
+		ROOTY_UPDATE_TIME, GROW_TIME, ANALYSE_TIME, DESTROY_TIME, WORLDGEN_TIME
+	));
+
+	/**
+	 * Allows add-ons to surface their own counters alongside the built in ones.
+	 */
+	public static MetricCounter registerCounter(MetricCounter counter) {
+		counters.add(counter);
+		return counter;
+	}
+
+	public static MetricHistogram registerHistogram(MetricHistogram histogram) {
+		histograms.add(histogram);
+		return histogram;
+	}
+
+	public static List<MetricCounter> getCounters() {
+		return Collections.unmodifiableList(counters);
+	}
+
+	public static List<MetricHistogram> getHistograms() {
+		return Collections.unmodifiableList(histograms);
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+		ticksUntilDump = ModConfigs.metricsDumpInterval;
+	}
+
+	/**
+	 * @return A timer start value for {@link MetricHistogram#stopTimer(long)} or zero if metrics are disabled.
+	 */
+	public static long startTimer() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	public static long getTicks() {
+		return ticks.sum();
+	}
+
+	public static void reset() {
+		ticks.reset();
+		counters.forEach(MetricCounter::reset);
+		histograms.forEach(MetricHistogram::reset);
+	}
+
+	/**
+	 * Called once at the end of every server tick
+	 */
+	public static void onServerTick() {
+		if (enabled) {
+			ticks.increment();
+			if (ModConfigs.metricsDumpInterval > 0 && --ticksUntilDump <= 0) {
+				ticksUntilDump = ModConfigs.metricsDumpInterval;
+				dump();
+			}
+		}
+	}
+
+	public static List<String> report() {
+		List<String> lines = new ArrayList<>();
+		long t = Math.max(1, getTicks());
+
+		lines.add(String.format("Ticks: %d", getTicks()));
+		for (MetricCounter counter : counters) {
+			lines.add(String.format("%-20s %10d %10.2f/tick", counter.getName(), counter.get(), counter.get() / (double) t));
+		}
+		for (MetricHistogram hist : histograms) {
+			lines.add(String.format("%-20s n=%d mean=%.1fus p50<%.1fus p99<%.1fus max=%.1fus", hist.getName(), hist.getCount(),
+				hist.getMean() / 1e3, hist.getPercentile(0.5) / 1e3, hist.getPercentile(0.99) / 1e3, hist.getMax() / 1e3));
+		}
+
+		return lines;
+	}
+
+	public static File getDumpFile() {
+		boolean json = "json".equalsIgnoreCase(ModConfigs.metricsDumpFormat);
+		return new File(new File(ModConfigs.configDirectory, ModConstants.MODID), "metrics." + (json ? "json" : "csv"));
+	}
+
+	/**
+	 * Append a snapshot of all metrics to the dump file.  CSV files receive one row per snapshot and JSON
+	 * files receive one object per line.  The snapshot is taken right away and written on a background thread so
+	 * the server tick never waits on the disk.
+	 */
+	public static void dump() {
+		File file = getDumpFile();
+		boolean json = file.getName().endsWith(".json");
+		String line = json ? toJson() : csvRow();
+		String header = json ? null : csvHeader();
+
+		dumpExecutor.execute(() -> write(file, line, header));
+	}
+
+	private static void write(File file, String line, String header) {
+		boolean newFile = !file.exists();
+
+		file.getParentFile().mkdirs();
+
+		try (Writer writer = new FileWriter(file, true)) {
+			if (header != null && newFile) {
+				writer.write(header);
+				writer.write('\n');
+			}
+			writer.write(line);
+			writer.write('\n');
+		} catch (IOException e) {
+			DynamicTrees.log.error("Unable to write metrics to " + file, e);
+		}
+	}
+
+	private static String csvHeader() {
+		StringBuilder builder = new StringBuilder("time,ticks");
+		counters.forEach(c -> builder.append(',').append(c.getName()));
+		histograms.forEach(h -> builder.append(',').append(h.getName()).append("Count")
+			.append(',').append(h.getName()).append("MeanNs")
+			.append(',').append(h.getName()).append("MaxNs"));
+		return builder.toString();
+	}
+
+	private static String csvRow() {
+		StringBuilder builder = new StringBuilder();
+		builder.append(System.currentTimeMillis()).append(',').append(getTicks());
+		counters.forEach(c -> builder.append(',').append(c.get()));
+		histograms.forEach(h -> builder.append(',').append(h.getCount())
+			.append(',').append((long) h.getMean())
+			.append(',').append(h.getMax()));
+		return builder.toString();
+	}
+
+	private static String toJson() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\"time\":").append(System.currentTimeMillis()).append(",\"ticks\":").append(getTicks());
+		for (MetricCounter c : counters) {
+			builder.append(",\"").append(c.getName()).append("\":").append(c.get());
+		}
+		for (MetricHistogram h : histograms) {
+			builder.append(",\"").append(h.getName()).append("\":{\"count\":").append(h.getCount())
+				.append(",\"meanNs\":").append((long) h.getMean())
+				.append(",\"p50Ns\":").append(h.getPercentile(0.5))
+				.append(",\"p99Ns\":").append(h.getPercentile(0.99))
+				.append(",\"maxNs\":").append(h.getMax()).append('}');
+		}
+		return builder.append('}').toString();
+	}
+
+}
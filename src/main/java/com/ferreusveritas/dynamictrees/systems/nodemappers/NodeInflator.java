@@ -69,8 +69,7 @@ public class NodeInflator implements INodeInspector {
 				//Handle leaves here
 				if (leafMap != null) {
 					leafMap.setVoxel(pos, (byte) 16);//16(bit 5) is code for a twig
-					SimpleVoxmap leafCluster = species.getLeavesProperties().getCellKit().getLeafCluster();
-					leafMap.blitMax(pos, leafCluster);
+					leafMap.stampMax(pos, species.getLeavesProperties().getCellKit().getSparseLeafCluster());
 				}
 			} else {
 				//The new branch should be the square root of all of the sums of the areas of the branches coming into it.
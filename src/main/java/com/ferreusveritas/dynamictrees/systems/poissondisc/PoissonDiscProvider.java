@@ -4,8 +4,7 @@ import com.ferreusveritas.dynamictrees.api.worldgen.IPoissonDebug;
 import com.ferreusveritas.dynamictrees.api.worldgen.IPoissonDiscProvider;
 import com.ferreusveritas.dynamictrees.api.worldgen.IRadiusCoordinator;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
-import com.ferreusveritas.dynamictrees.util.RandomXOR;
-import net.minecraft.util.math.BlockPos;
+import com.ferreusveritas.dynamictrees.util.PositionalRandom;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3i;
@@ -22,7 +21,7 @@ public class PoissonDiscProvider implements IPoissonDiscProvider {
 
 	private final IRadiusCoordinator radiusCoordinator;
 	private final HashMap<ChunkPos, PoissonDiscChunkSet> chunkDiscs;
-	private RandomXOR random = new RandomXOR();
+	private long seed = 0;
 	private IPoissonDebug debug;
 
 	public PoissonDiscProvider(IRadiusCoordinator radCoord) {
@@ -32,7 +31,7 @@ public class PoissonDiscProvider implements IPoissonDiscProvider {
 
 	public void setSeed(Long seed) {
 		if (seed != null) {
-			random = new RandomXOR(seed);
+			this.seed = seed;
 		}
 	}
 
@@ -42,7 +41,7 @@ public class PoissonDiscProvider implements IPoissonDiscProvider {
 
 	@Override
 	public List<PoissonDisc> getPoissonDiscs(int chunkX, int chunkY, int chunkZ) {
-		random.setXOR(new BlockPos(chunkX, chunkY, chunkZ));
+		Random random = new PositionalRandom(seed, chunkX, chunkZ, PositionalRandom.DISCS);
 		PoissonDiscChunkSet cSet = getChunkDiscSet(chunkX, chunkZ);
 		if (cSet.generated) {
 			return getChunkPoissonDiscs(chunkX, chunkZ);
@@ -17,7 +17,8 @@ public class PoissonDiscProviderUniversal {
 
 	protected IPoissonDiscProvider createCircleProvider(World world) {
 		BiomeRadiusCoordinator radiusCoordinator = new BiomeRadiusCoordinator(TreeGenerator.getTreeGenerator(), world);
-		IPoissonDiscProvider candidate = new PoissonDiscProvider(radiusCoordinator);
+		PoissonDiscProvider candidate = new PoissonDiscProvider(radiusCoordinator);
+		candidate.setSeed(world.getSeed());
 		PoissonDiscProviderCreateEvent poissonDiscProviderCreateEvent = new PoissonDiscProviderCreateEvent(world, candidate);
 		MinecraftForge.EVENT_BUS.post(poissonDiscProviderCreateEvent);
 		return poissonDiscProviderCreateEvent.getPoissonDiscProvider();
@@ -28,6 +28,7 @@ import com.ferreusveritas.dynamictrees.systems.GrowSignal;
 import com.ferreusveritas.dynamictrees.systems.dropcreators.DropCreatorLogs;
 import com.ferreusveritas.dynamictrees.systems.dropcreators.DropCreatorSeed;
 import com.ferreusveritas.dynamictrees.systems.dropcreators.DropCreatorStorage;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeDisease;
 import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeFindEnds;
 import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeInflator;
@@ -35,6 +36,7 @@ import com.ferreusveritas.dynamictrees.systems.nodemappers.NodeShrinker;
 import com.ferreusveritas.dynamictrees.systems.substances.SubstanceFertilize;
 import com.ferreusveritas.dynamictrees.tileentity.TileEntitySpecies;
 import com.ferreusveritas.dynamictrees.util.*;
+import com.ferreusveritas.dynamictrees.worldgen.ColumnHeightCache;
 import com.ferreusveritas.dynamictrees.worldgen.JoCode;
 import com.ferreusveritas.dynamictrees.worldgen.JoCodeStore;
 import net.minecraft.block.Block;
@@ -940,6 +942,7 @@ public class Species extends net.minecraftforge.registries.IForgeRegistryEntry.I
 			IBlockState branchState = world.getBlockState(endPos);
 			BlockBranch branch = TreeHelper.getBranch(branchState);
 			if (branch != null) {
+				Metrics.ROT_CHECKS.increment();
 				int radius = branch.getRadius(branchState);
 				float rotChance = rotChance(world, endPos, world.rand, radius);
 				if (branch.checkForRot(world, endPos, this, radius, world.rand, rotChance,
@@ -1025,11 +1028,13 @@ public class Species extends net.minecraftforge.registries.IForgeRegistryEntry.I
 	public boolean grow(World world, BlockRooty rootyDirt, BlockPos rootPos, int soilLife, ITreePart treeBase,
 						BlockPos treePos, Random random, boolean natural) {
 
+		long timer = Metrics.startTimer();
 		float growthRate =
 			getGrowthRate(world, rootPos) * ModConfigs.treeGrowthMultiplier * ModConfigs.treeGrowthFolding;
 		do {
 			if (soilLife > 0) {
 				if (growthRate > random.nextFloat()) {
+					Metrics.GROW_SIGNALS.increment();
 					GrowSignal signal = new GrowSignal(this, rootPos, getEnergy(world, rootPos));
 					boolean success = treeBase.growSignal(world, treePos, signal).success;
 
@@ -1050,6 +1055,7 @@ public class Species extends net.minecraftforge.registries.IForgeRegistryEntry.I
 				}
 			}
 		} while (--growthRate > 0.0f);
+		Metrics.GROW_TIME.stopTimer(timer);
 
 		return postGrow(world, rootPos, treePos, soilLife, natural);
 	}
@@ -1648,6 +1654,7 @@ public class Species extends net.minecraftforge.registries.IForgeRegistryEntry.I
 		if (postGenFeatures != null) {
 			for (IPostGenFeature feature : postGenFeatures) {
 				feature.postGeneration(world, rootPos, this, biome, radius, endPoints, safeBounds, initialDirtState);
+				ColumnHeightCache.invalidateTree(world, rootPos, radius);//Add-on features don't know about the cache
 			}
 		}
 	}
@@ -209,7 +209,7 @@ public class TreeCactus extends TreeFamily {
 
 			// Create tree
 			setFacing(facing);
-			generateFork(world, species, 0, rootPos, false);
+			generateBranches(world, species, rootPos);
 
 			// Fix branch thicknesses and map out leaf locations
 			BlockBranch branch = TreeHelper.getBranch(world.getBlockState(treePos));
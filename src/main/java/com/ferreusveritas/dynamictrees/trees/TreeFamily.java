@@ -494,7 +494,8 @@ public class TreeFamily {
 
 	/**
 	 * This is used for trees that have leaves that are not cubes and require extra blockstate properties such as palm
-	 * fronds. Used for tree felling animation.
+	 * fronds. Used for tree felling animation.  Always called on the client thread before the falling tree model is
+	 * built, which may then happen on a worker thread.
 	 *
 	 * @return
 	 */
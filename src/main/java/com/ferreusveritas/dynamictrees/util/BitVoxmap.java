@@ -0,0 +1,188 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import com.google.common.collect.AbstractIterator;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+import java.util.Iterator;
+
+/**
+ * A voxel map that stores a single bit per voxel packed into longs.  Meant for binary masks such as destruction
+ * and outline maps where a {@link SimpleVoxmap} would waste 7 bits per voxel.
+ * <p>
+ * Voxels are addressed with world coordinates inside the bounds the map was created with.  Iteration walks the
+ * set bits a word at a time so empty runs of 64 voxels are skipped with a single comparison.  Positions are
+ * returned in the same y, z, x order as {@link SimpleVoxmap#getAllNonZero()}.
+ *
+ * @author ferreusveritas
+ */
+public class BitVoxmap {
+
+	private final long[] words;
+
+	private final int minX;
+	private final int minY;
+	private final int minZ;
+	private final int lenX;
+	private final int lenY;
+	private final int lenZ;
+	private final int layerSize;
+
+	public BitVoxmap(BlockBounds bounds) {
+		BlockPos min = bounds.getMin();
+		this.minX = min.getX();
+		this.minY = min.getY();
+		this.minZ = min.getZ();
+		this.lenX = bounds.getXSize();
+		this.lenY = bounds.getYSize();
+		this.lenZ = bounds.getZSize();
+		this.layerSize = lenX * lenZ;
+		this.words = new long[(layerSize * lenY + 63) >>> 6];
+	}
+
+	public int getLenX() {
+		return lenX;
+	}
+
+	public int getLenY() {
+		return lenY;
+	}
+
+	public int getLenZ() {
+		return lenZ;
+	}
+
+	/** @return The bit index of the world position or -1 if it is out of bounds */
+	private int calcPos(int x, int y, int z) {
+		x -= minX;
+		y -= minY;
+		z -= minZ;
+		if (x < 0 || x >= lenX || y < 0 || y >= lenY || z < 0 || z >= lenZ) {
+			return -1;
+		}
+		return y * layerSize + z * lenX + x;
+	}
+
+	public boolean getVoxel(BlockPos pos) {
+		return getVoxel(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public boolean getVoxel(int x, int y, int z) {
+		int i = calcPos(x, y, z);
+		return i >= 0 && (words[i >>> 6] & (1L << i)) != 0;
+	}
+
+	public void setVoxel(BlockPos pos, boolean value) {
+		setVoxel(pos.getX(), pos.getY(), pos.getZ(), value);
+	}
+
+	public void setVoxel(int x, int y, int z, boolean value) {
+		int i = calcPos(x, y, z);
+		if (i >= 0) {
+			if (value) {
+				words[i >>> 6] |= 1L << i;
+			} else {
+				words[i >>> 6] &= ~(1L << i);
+			}
+		}
+	}
+
+	/**
+	 * Set or clear every voxel in a box.  The box is clipped to the map so it may extend past its bounds.  Each x
+	 * row is written a word at a time.
+	 */
+	public BitVoxmap fill(BlockPos from, BlockPos to, boolean value) {
+		int x1 = Math.max(Math.min(from.getX(), to.getX()) - minX, 0);
+		int y1 = Math.max(Math.min(from.getY(), to.getY()) - minY, 0);
+		int z1 = Math.max(Math.min(from.getZ(), to.getZ()) - minZ, 0);
+		int x2 = Math.min(Math.max(from.getX(), to.getX()) - minX, lenX - 1);
+		int y2 = Math.min(Math.max(from.getY(), to.getY()) - minY, lenY - 1);
+		int z2 = Math.min(Math.max(from.getZ(), to.getZ()) - minZ, lenZ - 1);
+
+		if (x1 > x2) {
+			return this;
+		}
+
+		for (int y = y1; y <= y2; y++) {
+			for (int z = z1; z <= z2; z++) {
+				int start = y * layerSize + z * lenX;
+				fillRange(start + x1, start + x2 + 1, value);
+			}
+		}
+
+		return this;
+	}
+
+	/** Set or clear the bits from start(inclusive) to end(exclusive) */
+	private void fillRange(int start, int end, boolean value) {
+		int startWord = start >>> 6;
+		int endWord = (end - 1) >>> 6;
+		long firstMask = -1L << start;
+		long lastMask = -1L >>> -end;
+
+		if (startWord == endWord) {
+			applyMask(startWord, firstMask & lastMask, value);
+			return;
+		}
+
+		applyMask(startWord, firstMask, value);
+		for (int w = startWord + 1; w < endWord; w++) {
+			words[w] = value ? -1L : 0L;
+		}
+		applyMask(endWord, lastMask, value);
+	}
+
+	private void applyMask(int word, long mask, boolean value) {
+		if (value) {
+			words[word] |= mask;
+		} else {
+			words[word] &= ~mask;
+		}
+	}
+
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Create an Iterable that returns the world positions of all set voxels.  Each word is read once when the
+	 * iterator reaches it so changes to voxels that share a word with the current position are not seen.
+	 */
+	public Iterable<MutableBlockPos> getAllSet() {
+
+		return new Iterable<MutableBlockPos>() {
+			@Override
+			public Iterator<MutableBlockPos> iterator() {
+				return new AbstractIterator<MutableBlockPos>() {
+					private int w = -1;
+					private long word = 0;//The remaining bits of the current word that haven't been returned
+					private final MutableBlockPos dPos = new MutableBlockPos();
+
+					@Override
+					protected MutableBlockPos computeNext() {
+						while (word == 0) {
+							if (++w >= words.length) {
+								return this.endOfData();
+							}
+							word = words[w];
+						}
+
+						int i = (w << 6) + Long.numberOfTrailingZeros(word);
+						word &= word - 1;//Clear the lowest set bit
+
+						int y = i / layerSize;
+						int r = i - y * layerSize;
+						int z = r / lenX;
+						return dPos.setPos(minX + r - z * lenX, minY + y, minZ + z);
+					}
+				};
+			}
+		};
+	}
+
+}
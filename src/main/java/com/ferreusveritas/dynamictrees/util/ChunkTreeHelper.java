@@ -147,10 +147,6 @@ public class ChunkTreeHelper {
 		cleanupNeighbors(world, destroyData);
 	}
 	
-	private static final byte NONE = (byte)0;
-	private static final byte TREE = (byte)1;
-	private static final byte SURR = (byte)2;
-	
 	public static void cleanupNeighbors(World world, BranchDestructionData destroyData) {
 		
 		// Only run on the server since the block updates will come from the server anyway
@@ -165,23 +161,23 @@ public class ChunkTreeHelper {
 		treeBounds.expand(1); // Expand by one to contain the 3d "outline" of the voxels
 		
 		// Mark voxels for leaves or branch blocks
-		SimpleVoxmap treeVoxmap = new SimpleVoxmap(treeBounds);
-		destroyData.getPositions(PosType.LEAVES, true).forEach(pos -> treeVoxmap.setVoxel(pos, TREE));
-		destroyData.getPositions(PosType.BRANCHES, true).forEach(pos -> treeVoxmap.setVoxel(pos, TREE));
+		BitVoxmap treeVoxmap = new BitVoxmap(treeBounds);
+		destroyData.getPositions(PosType.LEAVES, true).forEach(pos -> treeVoxmap.setVoxel(pos, true));
+		destroyData.getPositions(PosType.BRANCHES, true).forEach(pos -> treeVoxmap.setVoxel(pos, true));
 		
 		// Set voxels in the outline map for any adjacent voxels from the source tree map
-		SimpleVoxmap outlineVoxmap = new SimpleVoxmap(treeVoxmap);
-		treeVoxmap.getAllNonZero(TREE).forEach(pos -> {
+		BitVoxmap outlineVoxmap = new BitVoxmap(treeBounds);
+		treeVoxmap.getAllSet().forEach(pos -> {
 			for(EnumFacing dir : EnumFacing.VALUES) {
-				outlineVoxmap.setVoxel(pos.add(dir.getDirectionVec()), SURR);
+				outlineVoxmap.setVoxel(pos.getX() + dir.getFrontOffsetX(), pos.getY() + dir.getFrontOffsetY(), pos.getZ() + dir.getFrontOffsetZ(), true);
 			}
 		});
 		
 		// Clear out the original positions of the leaves and branch blocks since they've already been deleted
-		treeVoxmap.getAllNonZero(TREE).forEach(pos -> outlineVoxmap.setVoxel(pos, NONE));
+		treeVoxmap.getAllSet().forEach(pos -> outlineVoxmap.setVoxel(pos, false));
 		
 		// Finally use this map for cleaning up marked block positions
-		outlineVoxmap.getAllNonZero(SURR).forEach(pos -> cleanupBlock(world, pos));
+		outlineVoxmap.getAllSet().forEach(pos -> cleanupBlock(world, pos));
 	}
 	
 	/**
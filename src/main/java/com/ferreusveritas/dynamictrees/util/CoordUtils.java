@@ -3,6 +3,7 @@ package com.ferreusveritas.dynamictrees.util;
 import com.ferreusveritas.dynamictrees.blocks.BlockBranch;
 import com.ferreusveritas.dynamictrees.trees.Species;
 import com.ferreusveritas.dynamictrees.trees.TreeFamily;
+import com.ferreusveritas.dynamictrees.worldgen.ColumnHeightCache;
 import com.google.common.collect.AbstractIterator;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
@@ -308,6 +309,15 @@ public class CoordUtils {
 	 * @return The position of the top solid block
 	 */
 	public static BlockPos findGround(World world, BlockPos startPos) {
+		ColumnHeightCache cache = ColumnHeightCache.get(world);
+		if (cache != null) {
+			int top = cache.getSolidTop(startPos.getX(), startPos.getZ());
+			//Starting above the highest full cube always dives down to it (or stops at 50) so the scan can be skipped
+			if (top != ColumnHeightCache.UNKNOWN && startPos.getY() > top) {
+				return startPos.getY() > 50 ? new BlockPos(startPos.getX(), Math.max(top, 50), startPos.getZ()) : startPos;
+			}
+		}
+
 		MutableBlockPos pos = new MutableBlockPos(startPos);
 
 		//Rise up until we are no longer in a solid block
@@ -0,0 +1,164 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import com.ferreusveritas.dynamictrees.api.TreeHelper;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * Keeps a per-chunk bitmap of the 16 block sections that may contain dynamic leaves so that
+ * hot event handlers can skip block lookups entirely in chunks that hold no dynamic trees.
+ * <p>
+ * Each chunk is represented by a single int.  The low 16 bits mark which sections have been
+ * scanned and the high 16 bits mark which of those sections contain leaves.  Sections are scanned
+ * lazily the first time they are queried and are marked directly whenever leaves are placed.
+ * Leaves removal is not tracked so a set bit only means that leaves <i>may</i> be present.
+ *
+ * @author ferreusveritas
+ */
+public class LeavesSectionTracker {
+
+	private static final int SECTIONS = 16;
+
+	private static boolean enabled = false;
+	private static final Int2ObjectMap<Long2IntMap> worldMaps = new Int2ObjectOpenHashMap<>();
+
+	/**
+	 * Start tracking.  Called once by whoever needs the tracker before any leaves are placed.
+	 */
+	public static void init() {
+		enabled = true;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Record that leaves have been placed at the given position.
+	 */
+	public static void markLeaves(World world, BlockPos pos) {
+		if (!enabled || world.isRemote || pos.getY() < 0 || pos.getY() >= 256) {
+			return;
+		}
+
+		int section = pos.getY() >> 4;
+		Long2IntMap chunkMap = getChunkMap(world);
+		long key = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+		chunkMap.put(key, chunkMap.get(key) | (1 << section) | (1 << (section + SECTIONS)));
+	}
+
+	/**
+	 * Checks the position and its 6 neighbors all at once.  They almost always share the section of the position so
+	 * this usually costs a single chunk lookup.
+	 *
+	 * @return false only if the block sections around the given position are known to contain no dynamic leaves
+	 */
+	public static boolean mayContainLeavesAround(World world, BlockPos pos) {
+		if (!enabled) {
+			return true;
+		}
+
+		if (pos.getY() + 1 < 0 || pos.getY() - 1 >= 256) {
+			return false;
+		}
+
+		int minY = Math.max(pos.getY() - 1, 0) >> 4;
+		int maxY = Math.min(pos.getY() + 1, 255) >> 4;
+
+		Long2IntMap chunkMap = getChunkMap(world);
+		for (int cx = (pos.getX() - 1) >> 4; cx <= (pos.getX() + 1) >> 4; cx++) {
+			for (int cz = (pos.getZ() - 1) >> 4; cz <= (pos.getZ() + 1) >> 4; cz++) {
+				for (int section = minY; section <= maxY; section++) {
+					if (mayContainLeaves(world, chunkMap, cx, section, cz)) {
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return false only if the block section at the given position is known to contain no dynamic leaves
+	 */
+	public static boolean mayContainLeaves(World world, BlockPos pos) {
+		if (!enabled) {
+			return true;
+		}
+
+		if (pos.getY() < 0 || pos.getY() >= 256) {
+			return false;
+		}
+
+		return mayContainLeaves(world, getChunkMap(world), pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+	}
+
+	private static boolean mayContainLeaves(World world, Long2IntMap chunkMap, int cx, int section, int cz) {
+		long key = ChunkPos.asLong(cx, cz);
+		int flags = chunkMap.get(key);
+
+		if ((flags & (1 << section)) == 0) {//The section hasn't been scanned yet
+			Chunk chunk = world.getChunkProvider().getLoadedChunk(cx, cz);
+			if (chunk == null) {
+				return true;//Can't say for sure without loading the chunk
+			}
+			flags |= 1 << section;
+			if (scanSection(chunk, section)) {
+				flags |= 1 << (section + SECTIONS);
+			}
+			chunkMap.put(key, flags);
+		}
+
+		return (flags & (1 << (section + SECTIONS))) != 0;
+	}
+
+	private static boolean scanSection(Chunk chunk, int section) {
+		ExtendedBlockStorage storage = chunk.getBlockStorageArray()[section];
+
+		if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) {
+			return false;
+		}
+
+		for (int y = 0; y < 16; y++) {
+			for (int z = 0; z < 16; z++) {
+				for (int x = 0; x < 16; x++) {
+					if (TreeHelper.isLeaves(storage.get(x, y, z))) {
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	public static void unloadChunk(World world, ChunkPos cPos) {
+		Long2IntMap chunkMap = worldMaps.get(world.provider.getDimension());
+		if (chunkMap != null) {
+			chunkMap.remove(ChunkPos.asLong(cPos.x, cPos.z));
+		}
+	}
+
+	public static void unloadWorld(World world) {
+		worldMaps.remove(world.provider.getDimension());
+	}
+
+	private static Long2IntMap getChunkMap(World world) {
+		int dim = world.provider.getDimension();
+		Long2IntMap chunkMap = worldMaps.get(dim);
+		if (chunkMap == null) {
+			chunkMap = new Long2IntOpenHashMap();//Missing chunks read as 0 meaning nothing scanned yet
+			worldMaps.put(dim, chunkMap);
+		}
+		return chunkMap;
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import net.minecraft.util.math.BlockPos;
+
+import java.util.Random;
+
+/**
+ * A random number generator whose sequence is derived entirely from a world seed, a position and a salt.
+ * <p>
+ * Every tree, disc or chunk gets its own generator so that results no longer depend on the order in which
+ * things are generated or on any shared mutable state.  Instances are cheap and are meant to be confined to
+ * the thread that created them.  Independent streams for different purposes at the same position are created
+ * with {@link #split(long)} or by using a different salt.
+ * <p>
+ * Numbers are produced with the SplitMix64 algorithm which is both faster and statistically stronger than the
+ * linear congruential generator of {@link Random}.
+ *
+ * @author ferreusveritas
+ */
+public class PositionalRandom extends Random {
+
+	private static final long serialVersionUID = 2794853219586478627L;
+
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	//Salts for the different consumers of worldgen randomness
+	public static final long TREE = 0x5452454547454E31L;
+	public static final long SPECIES = 0x5350454349455331L;
+	public static final long CHANCE = 0x4348414E43453031L;
+	public static final long DISCS = 0x4449534353303031L;
+	public static final long DENSITY = 0x44454E5349545931L;
+	public static final long GROUND = 0x47524F554E443031L;
+
+	private long state;
+
+	public PositionalRandom(long seed) {
+		super(seed);
+	}
+
+	public PositionalRandom(long worldSeed, int x, int z, long salt) {
+		this(hash(worldSeed, x, z, salt));
+	}
+
+	public PositionalRandom(long worldSeed, BlockPos pos, long salt) {
+		this(hash(worldSeed, pos.getX(), pos.getZ(), salt));
+	}
+
+	/**
+	 * @return A seed mixed from a world seed, horizontal coordinates and a salt
+	 */
+	public static long hash(long worldSeed, int x, int z, long salt) {
+		long h = mix64(worldSeed ^ salt);
+		h = mix64(h + x * GOLDEN_GAMMA);
+		return mix64(h + z * 0xC2B2AE3D27D4EB4FL);
+	}
+
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * @return A new generator with a stream independent of this one.  This generator is not advanced.
+	 */
+	public PositionalRandom split(long salt) {
+		return new PositionalRandom(mix64(state ^ mix64(salt)));
+	}
+
+	@Override
+	public synchronized void setSeed(long seed) {
+		super.setSeed(seed);//Resets the cached gaussian
+		state = seed;
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (mix64(state += GOLDEN_GAMMA) >>> (64 - bits));
+	}
+
+	@Override
+	public long nextLong() {
+		return mix64(state += GOLDEN_GAMMA);
+	}
+
+}
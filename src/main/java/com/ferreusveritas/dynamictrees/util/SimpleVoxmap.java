@@ -122,20 +122,39 @@ public class SimpleVoxmap {
 		byte getOp(byte srcValue, byte dstValue);
 	}
 
+	/**
+	 * The part of a source map that overlaps this map when blitted at a position.  Ranges are source array
+	 * coordinates(end exclusive) and offsets convert them to the array coordinates of this map.
+	 */
+	private class BlitRange {
+		final int offX, offY, offZ;
+		final int x1, y1, z1;
+		final int x2, y2, z2;
+
+		BlitRange(BlockPos pos, SimpleVoxmap src) {
+			offX = pos.getX() - src.center.getX() + center.getX();
+			offY = pos.getY() - src.center.getY() + center.getY();
+			offZ = pos.getZ() - src.center.getZ() + center.getZ();
+			x1 = Math.max(0, -offX);
+			y1 = Math.max(0, -offY);
+			z1 = Math.max(0, -offZ);
+			x2 = Math.min(src.lenX, lenX - offX);
+			y2 = Math.min(src.lenY, lenY - offY);
+			z2 = Math.min(src.lenZ, lenZ - offZ);
+		}
+	}
+
 	public SimpleVoxmap blitOp(BlockPos pos, SimpleVoxmap src, IBlitOp op) {
-		for (int iy = 0; iy < src.getLenY(); iy++) {
-			int srcY = iy - src.center.getY();
-			int dstY = pos.getY() + srcY;
-			setYTouched(dstY);
-			for (int iz = 0; iz < src.getLenZ(); iz++) {
-				int srcZ = iz - src.center.getZ();
-				int dstZ = pos.getZ() + srcZ;
-				for (int ix = 0; ix < src.getLenX(); ix++) {
-					int srcX = ix - src.center.getX();
-					int dstX = pos.getX() + srcX;
-					byte srcValue = src.getVoxel(srcX, srcY, srcZ);
-					byte dstValue = getVoxel(dstX, dstY, dstZ);
-					setVoxel(dstX, dstY, dstZ, op.getOp(srcValue, dstValue));
+		BlitRange r = new BlitRange(pos, src);
+		for (int iy = r.y1; iy < r.y2; iy++) {
+			int dy = iy + r.offY;
+			touched[dy] = true;
+			boolean srcTouched = src.touched[iy];//Untouched source layers read as zero
+			for (int iz = r.z1; iz < r.z2; iz++) {
+				int s = src.calcPos(r.x1, iy, iz);
+				int d = calcPos(r.x1 + r.offX, dy, iz + r.offZ);
+				for (int ix = r.x1; ix < r.x2; ix++, s++, d++) {
+					data[d] = op.getOp(srcTouched ? src.data[s] : 0, data[d]);
 				}
 			}
 		}
@@ -143,15 +162,66 @@ public class SimpleVoxmap {
 	}
 
 	public SimpleVoxmap blitReplace(BlockPos pos, SimpleVoxmap src) {
-		return blitOp(pos, src, (s, d) -> {
-			return s;
-		});
+		BlitRange r = new BlitRange(pos, src);
+		int rowLen = r.x2 - r.x1;
+		for (int iy = r.y1; iy < r.y2; iy++) {
+			int dy = iy + r.offY;
+			touched[dy] = true;
+			boolean srcTouched = src.touched[iy];
+			for (int iz = r.z1; iz < r.z2; iz++) {
+				int d = calcPos(r.x1 + r.offX, dy, iz + r.offZ);
+				if (srcTouched) {
+					System.arraycopy(src.data, src.calcPos(r.x1, iy, iz), data, d, rowLen);
+				} else {
+					Arrays.fill(data, d, d + rowLen, (byte) 0);
+				}
+			}
+		}
+		return this;
 	}
 
 	public SimpleVoxmap blitMax(BlockPos pos, SimpleVoxmap src) {
-		return blitOp(pos, src, (s, d) -> {
-			return (s >= d) ? s : d;
-		});
+		BlitRange r = new BlitRange(pos, src);
+		for (int iy = r.y1; iy < r.y2; iy++) {
+			int dy = iy + r.offY;
+			touched[dy] = true;
+			boolean srcTouched = src.touched[iy];
+			for (int iz = r.z1; iz < r.z2; iz++) {
+				int s = src.calcPos(r.x1, iy, iz);
+				int d = calcPos(r.x1 + r.offX, dy, iz + r.offZ);
+				for (int ix = r.x1; ix < r.x2; ix++, s++, d++) {
+					byte value = srcTouched ? src.data[s] : 0;
+					if (value > data[d]) {
+						data[d] = value;
+					}
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * The same as {@link #blitMax(BlockPos, SimpleVoxmap)} for a precompiled sparse map.  Only the non-zero cells
+	 * of the source are visited.
+	 */
+	public SimpleVoxmap stampMax(BlockPos pos, SparseVoxmap src) {
+		int offX = pos.getX() + center.getX();
+		int offY = pos.getY() + center.getY();
+		int offZ = pos.getZ() + center.getZ();
+		for (int i = 0; i < src.size(); i++) {
+			int x = src.getX(i) + offX;
+			int y = src.getY(i) + offY;
+			int z = src.getZ(i) + offZ;
+			if (testBounds(x, y, z)) {
+				touched[y] = true;
+				int d = calcPos(x, y, z);
+				byte value = src.getValue(i);
+				if (value > data[d]) {
+					data[d] = value;
+				}
+			}
+		}
+		return this;
 	}
 
 	public SimpleVoxmap blitClear(BlockPos pos, SimpleVoxmap src) {
@@ -208,7 +278,7 @@ public class SimpleVoxmap {
 	}
 
 	private int calcPos(int x, int y, int z) {
-		return y * lenX * lenZ + z * lenX + x;
+		return y * layerSize + z * lenX + x;
 	}
 
 	public void setVoxel(BlockPos pos, byte value) {
@@ -272,6 +342,15 @@ public class SimpleVoxmap {
 		return 0;
 	}
 
+	/**
+	 * Set a position to the relative coordinates of a data index on a layer
+	 */
+	private MutableBlockPos setPos(MutableBlockPos pos, int y, int dataPos) {
+		int rem = dataPos - y * layerSize;
+		int z = rem / lenX;
+		return pos.setPos(rem - z * lenX - center.getX(), y - center.getY(), z - center.getZ());
+	}
+
 	private boolean testBounds(int x, int y, int z) {
 		return x >= 0 && x < lenX && y >= 0 && y < lenY && z >= 0 && z < lenZ;
 	}
@@ -327,45 +406,39 @@ public class SimpleVoxmap {
 			@Override
 			public Iterator<Cell> iterator() {
 				return new AbstractIterator<Cell>() {
-					private int x = -1;
-					private int y = 0;
-					private int z = 0;
-					private int dataPos = -1;
+					private int y = -1;
+					private int dataPos = 0;//The next data index to read
+					private int layerEnd = 0;//The data index just past the end of the current layer
 					private final Cell workingCell = new Cell();
 					private final MutableBlockPos dPos = workingCell.getPos();
 
 					@Override
 					protected Cell computeNext() {
 
-						main:
 						while (true) {
 
-							if (x < lenX - 1) {
-								x++;
-							} else if (z < lenZ - 1) {
-								x = 0;
-								z++;
-							} else {
-								x = -1;
-								z = 0;
-								y++;
+							//Skip the run of zero cells on this layer
+							while (dataPos < layerEnd && (byte) (data[dataPos] & mask) <= 0) {
+								dataPos++;
+							}
 
-								while (y < lenY) {
-									if (touched[y]) {
-										continue main;
-									}
-									dataPos += layerSize;
-									y++;
-								}
+							if (dataPos < layerEnd) {
+								byte value = (byte) (data[dataPos] & mask);
+								setPos(dPos, y, dataPos++);
+								return workingCell.setValue(value);
+							}
 
+							//Find the next layer with data
+							do {
+								y++;
+							} while (y < lenY && !touched[y]);
+
+							if (y >= lenY) {
 								return this.endOfData();
 							}
 
-							byte value = (byte) (data[++dataPos] & mask);
-							if (value > 0) {
-								dPos.setPos(x - center.getX(), y - center.getY(), z - center.getZ());
-								return workingCell.setValue(value);
-							}
+							dataPos = y * layerSize;
+							layerEnd = dataPos + layerSize;
 						}
 					}
 				};
@@ -390,53 +463,45 @@ public class SimpleVoxmap {
 			@Override
 			public Iterator<MutableBlockPos> iterator() {
 				return new AbstractIterator<MutableBlockPos>() {
-					private int x = -1;
-					private int y = 0;
-					private int z = 0;
-					private int dataPos = -1;
-					private boolean yclean;
+					private int y = -1;
+					private int dataPos = 0;//The next data index to read
+					private int layerEnd = 0;//The data index just past the end of the current layer
+					private boolean yclean = true;
 					private final BlockPos.MutableBlockPos dPos = new BlockPos.MutableBlockPos();
 
 					@Override
 					protected MutableBlockPos computeNext() {
 
-						main:
 						while (true) {
 
-							if (x < lenX - 1) {
-								x++;//Move to read next cell on x axis
-							} else if (z < lenZ - 1) {
-								//We have completed an x scan of a y layer but we still have some more z
-								x = 0;//Reset x for another z scan
-								z++;//Jump to the next z bar
-							} else {
-								//We have completed an x and z scan of a y layer.
-								x = -1;//Reset the x to just before the first cell for another y layer
-								z = 0;//Reset z for another y layer
+							//Skip the run of zero cells on this layer
+							while (dataPos < layerEnd && (data[dataPos] & mask) <= 0) {
+								dataPos++;
+							}
 
-								//Once we get here we have completed an entire y layer scan
-								//if the layer is clean then we mark it as such to self optimize
-								touched[y] = !yclean;
+							if (dataPos < layerEnd) {
+								yclean = false; //We found non-zero data.  Therefore this y layer is dirty
+								return setPos(dPos, y, dataPos++);
+							}
 
-								y++;//Bump up a layer
-								yclean = true; //Let's pretend this new layer is clean
+							//Once we get here we have completed an entire y layer scan
+							//if the layer is clean then we mark it as such to self optimize
+							if (y >= 0) {
+								touched[y] = !yclean;
+							}
 
-								while (y < lenY) {
-									if (touched[y]) {
-										continue main;//We suspect there's data on this layer so let's hit it
-									}
-									dataPos += layerSize;//Jump the indexer to the next layer data
-									y++;//Bump up a layer
-									yclean = true; //Let's pretend this new layer is clean
-								}
+							//Find the next layer we suspect has data
+							do {
+								y++;
+							} while (y < lenY && !touched[y]);
 
+							if (y >= lenY) {
 								return this.endOfData();//There's no more data
 							}
 
-							if ((data[++dataPos] & mask) > 0) {
-								yclean = false; //We found non-zero data.  Therefore this y layer is dirty
-								return dPos.setPos(x - center.getX(), y - center.getY(), z - center.getZ());
-							}
+							dataPos = y * layerSize;
+							layerEnd = dataPos + layerSize;
+							yclean = true; //Let's pretend this new layer is clean
 						}
 
 					}
@@ -0,0 +1,82 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import com.ferreusveritas.dynamictrees.util.SimpleVoxmap.Cell;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+
+/**
+ * An immutable list of the non-zero voxels of a {@link SimpleVoxmap}.
+ * <p>
+ * Made for small maps that are mostly empty and used over and over like leaf clusters.  Only the non-zero cells
+ * are stored so stamping or visiting the map costs as much as the number of cells it holds rather than the
+ * volume of its bounding box.  Cells are kept in the y, z, x order of the source map so that writes to a target
+ * map move forward through its data.
+ *
+ * @author ferreusveritas
+ */
+public class SparseVoxmap {
+
+	private final int[] xs;
+	private final int[] ys;
+	private final int[] zs;
+	private final byte[] values;
+
+	public SparseVoxmap(SimpleVoxmap src) {
+		int count = 0;
+		for (Cell cell : src.getAllNonZeroCells()) {
+			count++;
+		}
+
+		xs = new int[count];
+		ys = new int[count];
+		zs = new int[count];
+		values = new byte[count];
+
+		int i = 0;
+		for (Cell cell : src.getAllNonZeroCells()) {
+			BlockPos pos = cell.getPos();
+			xs[i] = pos.getX();
+			ys[i] = pos.getY();
+			zs[i] = pos.getZ();
+			values[i++] = cell.getValue();
+		}
+	}
+
+	/**
+	 * @return The number of non-zero cells
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	public boolean isEmpty() {
+		return values.length == 0;
+	}
+
+	/**
+	 * @return The X offset of a cell relative to the center of the source map
+	 */
+	public int getX(int i) {
+		return xs[i];
+	}
+
+	public int getY(int i) {
+		return ys[i];
+	}
+
+	public int getZ(int i) {
+		return zs[i];
+	}
+
+	public byte getValue(int i) {
+		return values[i];
+	}
+
+	/**
+	 * Set a position to that of a cell when the map is centered at the given position
+	 */
+	public MutableBlockPos getPos(int i, BlockPos center, MutableBlockPos pos) {
+		return pos.setPos(center.getX() + xs[i], center.getY() + ys[i], center.getZ() + zs[i]);
+	}
+
+}
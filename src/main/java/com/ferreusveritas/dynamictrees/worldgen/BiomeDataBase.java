@@ -2,9 +2,15 @@ package com.ferreusveritas.dynamictrees.worldgen;
 
 import com.ferreusveritas.dynamictrees.ModConfigs;
 import com.ferreusveritas.dynamictrees.api.worldgen.BiomePropertySelectors.*;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Biomes;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.biome.Biome;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 public class BiomeDataBase {
@@ -58,6 +64,22 @@ public class BiomeDataBase {
 		}
 	}
 
+	/**
+	 * Flattens the species selector chains of every entry into their cheapest equivalent form.  This should be
+	 * called once the database has been fully populated.
+	 */
+	public void compile() {
+		for (BiomeEntry[] list : table) {
+			if (list != null) {
+				for (BiomeEntry entry : list) {
+					if (entry != BADENTRY) {
+						entry.compile();
+					}
+				}
+			}
+		}
+	}
+
 	public boolean isValid() {
 		for (Biome biome : Biome.REGISTRY) {
 			BiomeEntry entry = getEntry(biome);
@@ -75,7 +97,7 @@ public class BiomeDataBase {
 		private final int biomeId;
 		private IChanceSelector chanceSelector = (rnd, spc, rad) -> EnumChance.UNHANDLED;
 		private IDensitySelector densitySelector = (rnd, nd) -> -1;
-		private ISpeciesSelector speciesSelector = (pos, dirt, rnd) -> new SpeciesSelection();
+		private ISpeciesSelector speciesSelector = new StaticSpeciesSelector();
 		private boolean cancelVanillaTreeGen = false;
 		private boolean isSubterranean = false;
 		private float forestness = 0.0f;
@@ -156,6 +178,12 @@ public class BiomeDataBase {
 			return multipass;
 		}
 
+		public void compile() {
+			if (speciesSelector instanceof SpeciesSelectorChain) {
+				speciesSelector = ((SpeciesSelectorChain) speciesSelector).compile();
+			}
+		}
+
 	}
 
 	public ISpeciesSelector getSpecies(Biome biome) {
@@ -192,16 +220,10 @@ public class BiomeDataBase {
 					entry.setSpeciesSelector(selector);
 					break;
 				case SPLICE_BEFORE:
-					entry.setSpeciesSelector((pos, dirt, rnd) -> {
-						SpeciesSelection ss = selector.getSpecies(pos, dirt, rnd);
-						return ss.isHandled() ? ss : existing.getSpecies(pos, dirt, rnd);
-					});
+					entry.setSpeciesSelector(new SpeciesSelectorChain(selector, existing));
 					break;
 				case SPLICE_AFTER:
-					entry.setSpeciesSelector((pos, dirt, rnd) -> {
-						SpeciesSelection ss = existing.getSpecies(pos, dirt, rnd);
-						return ss.isHandled() ? ss : selector.getSpecies(pos, dirt, rnd);
-					});
+					entry.setSpeciesSelector(new SpeciesSelectorChain(existing, selector));
 					break;
 			}
 		}
@@ -280,6 +302,81 @@ public class BiomeDataBase {
 		return this;
 	}
 
+	/**
+	 * An ordered list of species selectors where the first handled selection wins.  Splicing selectors
+	 * together appends to a flat list rather than nesting lambdas so that a heavily spliced biome costs a
+	 * single loop instead of a deep call chain.
+	 */
+	public static class SpeciesSelectorChain implements ISpeciesSelector {
+
+		private final ISpeciesSelector[] selectors;
+
+		public SpeciesSelectorChain(ISpeciesSelector first, ISpeciesSelector second) {
+			List<ISpeciesSelector> list = new ArrayList<>();
+			addFlattened(list, first);
+			addFlattened(list, second);
+			this.selectors = list.toArray(new ISpeciesSelector[0]);
+		}
+
+		private SpeciesSelectorChain(List<ISpeciesSelector> list) {
+			this.selectors = list.toArray(new ISpeciesSelector[0]);
+		}
+
+		private static void addFlattened(List<ISpeciesSelector> list, ISpeciesSelector selector) {
+			if (selector instanceof SpeciesSelectorChain) {
+				Collections.addAll(list, ((SpeciesSelectorChain) selector).selectors);
+			} else {
+				list.add(selector);
+			}
+		}
+
+		public int getSize() {
+			return selectors.length;
+		}
+
+		/**
+		 * Drops selectors that can never handle a selection and everything after the first selector that always
+		 * handles one.  Selectors whose outcome depends on the position or ground are kept in order.
+		 *
+		 * @return The simplest selector that behaves identically to this chain
+		 */
+		public ISpeciesSelector compile() {
+			List<ISpeciesSelector> list = new ArrayList<>(selectors.length);
+
+			for (ISpeciesSelector selector : selectors) {
+				if (selector instanceof StaticSpeciesSelector) {
+					if (!((StaticSpeciesSelector) selector).getDecision().isHandled()) {
+						continue;//Can never produce a species
+					}
+					list.add(selector);
+					break;//Always handled so nothing after it is reachable
+				}
+				list.add(selector);
+				if (selector instanceof RandomSpeciesSelector && ((RandomSpeciesSelector) selector).isAlwaysHandled()) {
+					break;
+				}
+			}
+
+			switch (list.size()) {
+				case 0: return new StaticSpeciesSelector();
+				case 1: return list.get(0);
+				default: return list.size() == selectors.length ? this : new SpeciesSelectorChain(list);
+			}
+		}
+
+		@Override
+		public SpeciesSelection getSpecies(BlockPos pos, IBlockState dirt, Random random) {
+			for (ISpeciesSelector selector : selectors) {
+				SpeciesSelection ss = selector.getSpecies(pos, dirt, random);
+				if (ss.isHandled()) {
+					return ss;
+				}
+			}
+			return SpeciesSelection.UNHANDLED;
+		}
+
+	}
+
 	public enum Operation {
 		REPLACE,
 		SPLICE_BEFORE,
@@ -4,18 +4,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import com.ferreusveritas.dynamictrees.api.WorldGenRegistry.BiomeDataBaseJsonCapabilityRegistryEvent;
 import com.ferreusveritas.dynamictrees.api.worldgen.BiomePropertySelectors.EnumChance;
-import com.ferreusveritas.dynamictrees.api.worldgen.BiomePropertySelectors.SpeciesSelection;
+import com.ferreusveritas.dynamictrees.api.worldgen.BiomePropertySelectors.StaticSpeciesSelector;
 import com.ferreusveritas.dynamictrees.api.worldgen.IBiomeDataBasePopulator;
 import com.ferreusveritas.dynamictrees.util.JsonHelper;
 import com.ferreusveritas.dynamictrees.worldgen.BiomeDataBase.Operation;
@@ -24,7 +25,6 @@ import com.ferreusveritas.dynamictrees.worldgen.json.IJsonBiomeSelector;
 import com.ferreusveritas.dynamictrees.worldgen.json.JsonBiomePropertyApplierChance;
 import com.ferreusveritas.dynamictrees.worldgen.json.JsonBiomePropertyApplierDensity;
 import com.ferreusveritas.dynamictrees.worldgen.json.JsonBiomePropertyApplierSpecies;
-import com.google.common.collect.Lists;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -55,7 +55,9 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 	public static Set<Biome> blacklistedBiomes = new HashSet<>();
 	private static Map<String, IJsonBiomeSelector> jsonBiomeSelectorMap = new HashMap<>();
 	private static Map<String, IJsonBiomeApplier> jsonBiomeApplierMap = new HashMap<>();
+	private static final Set<String> THREADSAFE_SELECTORS = new HashSet<>(Arrays.asList(NAME, TYPE));
 	private final JsonElement jsonElement;
+	private List<JsonSection> sections;
 
 	public BiomeDataBasePopulatorJson(ResourceLocation jsonLocation) {
 		this(JsonHelper.load(jsonLocation));
@@ -77,6 +79,7 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 		jsonBiomeApplierMap = new HashMap<>();
 		jsonBiomeSelectorMap = new HashMap<>();
 		blacklistedBiomes = new HashSet<>();
+		BiomeSelectionCache.flush();
 	}
 
 	public static void registerJsonCapabilities(BiomeDataBaseJsonCapabilityRegistryEvent event) {
@@ -183,7 +186,7 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 
 		event.register(RESET, (dbase, element, biome) -> {
 			dbase.setCancelVanillaTreeGen(biome, false);
-			dbase.setSpeciesSelector(biome, (pos, dirt, rnd) -> new SpeciesSelection(), Operation.REPLACE);
+			dbase.setSpeciesSelector(biome, new StaticSpeciesSelector(), Operation.REPLACE);
 			dbase.setDensitySelector(biome, (rnd, nd) -> -1, Operation.REPLACE);
 			dbase.setChanceSelector(biome, (rnd, spc, rad) -> EnumChance.UNHANDLED, Operation.REPLACE);
 			dbase.setForestness(biome, 0.0f);
@@ -239,20 +242,33 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 			}
 		}
 
+		final Pattern[] whitelist = namesWhitelist.stream().map(Pattern::compile).toArray(Pattern[]::new);
+		final Pattern[] blacklist = namesBlacklist.stream().map(Pattern::compile).toArray(Pattern[]::new);
+
 		return biome -> {
 			final String regName = String.valueOf(biome.getRegistryName());
 
 			// Accept if the biome name matches any from the whilstlist and none from the blacklist. 
-			return namesWhitelist.stream().anyMatch(regName::matches) &&
-				namesBlacklist.stream().noneMatch(regName::matches);
+			return matchesAny(regName, whitelist) && !matchesAny(regName, blacklist);
 		};
 	}
 
+	private static boolean matchesAny(String name, Pattern[] patterns) {
+		for (Pattern pattern : patterns) {
+			if (pattern.matcher(name).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private static Predicate<Biome> readNameSelector(String biomeMatch) {
 		if (biomeMatch.charAt(0) == '!') {
-			return biome -> !String.valueOf(biome.getRegistryName()).matches(biomeMatch.substring(1));
+			final Pattern pattern = Pattern.compile(biomeMatch.substring(1));
+			return biome -> !pattern.matcher(String.valueOf(biome.getRegistryName())).matches();
 		} else {
-			return biome -> String.valueOf(biome.getRegistryName()).matches(biomeMatch);
+			final Pattern pattern = Pattern.compile(biomeMatch);
+			return biome -> pattern.matcher(String.valueOf(biome.getRegistryName())).matches();
 		}
 	}
 
@@ -270,20 +286,52 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 
 	@Override
 	public void populate(BiomeDataBase biomeDataBase) {
+		for (JsonSection section : getSections()) {
+			section.apply(biomeDataBase);
+		}
+	}
+
+	/**
+	 * Reads the json sections and resolves the biomes each one selects.  This is done once per populator so that a
+	 * populator applied to several databases (such as the default populator for every custom dimension) only pays
+	 * for parsing and selection the first time.
+	 */
+	private List<JsonSection> getSections() {
+		if (sections != null) {
+			return sections;
+		}
+
+		sections = new ArrayList<>();
 		if (jsonElement != null && jsonElement.isJsonArray()) {
 			for (JsonElement sectionElement : jsonElement.getAsJsonArray()) {
 				if (sectionElement.isJsonObject()) {
-					JsonObject section = sectionElement.getAsJsonObject();
-					readSection(section, biomeDataBase);
+					sections.add(readSection(sectionElement.getAsJsonObject()));
 				}
 			}
 		}
+
+		List<Biome> biomes = BiomeSelectionCache.getBiomes();
+		String key = BiomeSelectionCache.makeKey(jsonElement == null ? "" : jsonElement.toString(), new TreeSet<>(jsonBiomeSelectorMap.keySet()));
+		int[][] selection = BiomeSelectionCache.get(key);
+
+		if (selection == null || selection.length != sections.size()) {
+			selection = new int[sections.size()][];
+			for (int s = 0; s < selection.length; s++) {
+				selection[s] = sections.get(s).select(biomes);
+			}
+			BiomeSelectionCache.put(key, selection);
+		}
+
+		for (int s = 0; s < selection.length; s++) {
+			sections.get(s).setBiomes(biomes, selection[s]);
+		}
+
+		return sections;
 	}
 
-	private void readSection(JsonObject section, BiomeDataBase dbase) {
+	private JsonSection readSection(JsonObject section) {
 
-		List<JsonBiomeSelectorData> selectors = new LinkedList<>();
-		List<JsonBiomeApplierData> appliers = new LinkedList<>();
+		JsonSection jsonSection = new JsonSection();
 
 		for (Entry<String, JsonElement> entry : section.entrySet()) {
 
@@ -294,7 +342,7 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 				if (WHITE.equals(key)) {
 					if (element.isJsonPrimitive()) {
 						if ("all".equals(element.getAsString())) {
-							blacklistedBiomes.clear();
+							jsonSection.whiteAll = true;
 						}
 					}
 				} else if (SELECT.equals(key)) {
@@ -304,7 +352,7 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 							if (!isComment(selectorName)) {
 								IJsonBiomeSelector selector = jsonBiomeSelectorMap.get(selectorName);
 								if (selector != null) {
-									selectors.add(new JsonBiomeSelectorData(selector, selectElement.getValue()));
+									jsonSection.selectors.add(new JsonBiomeSelectorData(selectorName, selector, selectElement.getValue()));
 								} else {
 									System.err.println(
 										"Json Error: Undefined selector property \"" + selectorName + "\"");
@@ -319,7 +367,7 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 							if (!isComment(applierName)) {
 								IJsonBiomeApplier applier = jsonBiomeApplierMap.get(applierName);
 								if (applier != null) {
-									appliers.add(new JsonBiomeApplierData(applier, selectElement.getValue()));
+									jsonSection.appliers.add(new JsonBiomeApplierData(applier, selectElement.getValue()));
 								} else {
 									System.err.println(
 										"Json Error: Undefined applier property \"" + applierName + "\"");
@@ -334,27 +382,72 @@ public class BiomeDataBasePopulatorJson implements IBiomeDataBasePopulator {
 
 		}
 
-		//Filter biomes by selector predicates
-		Stream<Biome> stream = Lists.newArrayList(Biome.REGISTRY).stream();
-		for (JsonBiomeSelectorData s : selectors) {
-			stream = stream.filter(s.getFilter());
+		return jsonSection;
+	}
+
+	private class JsonSection {
+
+		final List<JsonBiomeSelectorData> selectors = new ArrayList<>();
+		final List<JsonBiomeApplierData> appliers = new ArrayList<>();
+		boolean whiteAll = false;
+		Biome[] selected = new Biome[0];
+
+		/**
+		 * @return The indices of the biomes that pass every selector predicate
+		 */
+		int[] select(List<Biome> biomes) {
+			if (appliers.isEmpty()) {
+				return new int[0];//Nothing would be done with the selection anyway
+			}
+
+			Predicate<Biome> filter = b -> true;
+			for (JsonBiomeSelectorData s : selectors) {
+				filter = filter.and(s.getFilter());
+			}
+			final Predicate<Biome> predicate = filter;
+
+			//The built in selectors are pure functions of the biome so they can be evaluated concurrently.  Selectors
+			//registered by add-ons are not known to be thread safe and are evaluated on this thread.
+			IntStream stream = IntStream.range(0, biomes.size());
+			if (selectors.stream().allMatch(s -> THREADSAFE_SELECTORS.contains(s.name))) {
+				stream = stream.parallel();
+			}
+
+			return stream.filter(i -> predicate.test(biomes.get(i))).toArray();
+		}
+
+		void setBiomes(List<Biome> biomes, int[] indices) {
+			selected = new Biome[indices.length];
+			for (int i = 0; i < indices.length; i++) {
+				selected[i] = biomes.get(indices[i]);
+			}
 		}
 
-		//Filter blacklisted biomes
-		stream = stream.filter(b -> !blacklistedBiomes.contains(b));
+		void apply(BiomeDataBase dbase) {
+			if (whiteAll) {
+				blacklistedBiomes.clear();
+			}
+
+			//Blacklisting is evaluated here rather than during selection since it changes as the sections are applied
+			for (Biome biome : selected) {
+				if (!blacklistedBiomes.contains(biome)) {
+					for (JsonBiomeApplierData a : appliers) {
+						a.apply(dbase, biome);
+					}
+				}
+			}
+		}
 
-		//Apply all of the applicators to the database
-		stream.forEach(biome -> {
-			appliers.forEach(a -> a.apply(dbase, biome));
-		});
 	}
 
 	private class JsonBiomeSelectorData {
 
+		final String name;
 		final IJsonBiomeSelector selector;
 		final JsonElement elementData;
 
-		JsonBiomeSelectorData(IJsonBiomeSelector selector, JsonElement elementData) {
+		JsonBiomeSelectorData(String name, IJsonBiomeSelector selector, JsonElement elementData) {
+			this.name = name;
 			this.selector = selector;
 			this.elementData = elementData;
 		}
@@ -1,12 +1,17 @@
 package com.ferreusveritas.dynamictrees.worldgen;
 
 import com.ferreusveritas.dynamictrees.api.worldgen.IRadiusCoordinator;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
+import com.ferreusveritas.dynamictrees.util.PositionalRandom;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.NoiseGeneratorPerlin;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.function.Function;
 
@@ -18,6 +23,16 @@ public class BiomeRadiusCoordinator implements IRadiusCoordinator {
 	protected int pass;
 	protected Function<Integer, Integer> chunkMultipass;
 
+	//The disc solver samples the same neighbourhood over and over as it works through a chunk and its neighbours.
+	//Biomes and noise values are remembered per 16x16 region so that each column is only sampled once.
+	private static final int MAXREGIONS = 64;
+	private final Map<Long, SampleRegion> regions = new LinkedHashMap<Long, SampleRegion>(MAXREGIONS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, SampleRegion> eldest) {
+			return size() > MAXREGIONS;
+		}
+	};
+
 	public BiomeRadiusCoordinator(TreeGenerator treeGenerator, World world) {
 		noiseGenerator = new NoiseGeneratorPerlin(new Random(96), 1);
 		this.world = world;
@@ -32,10 +47,11 @@ public class BiomeRadiusCoordinator implements IRadiusCoordinator {
 			return rad;
 		}
 
-		double scale = 128;//Effectively scales up the noisemap
-		Biome biome = world.getBiome(new BlockPos(x + 8, 0, z + 8));//Placement is offset by +8,+8
-		double noiseDensity = (noiseGenerator.getValue(x / scale, z / scale) + 1D) / 2.0D;//Gives 0.0 to 1.0
-		double density = treeGenerator.getBiomeDataBase(world).getDensity(biome).getDensity(world.rand, noiseDensity);
+		SampleRegion region = sample(x, z);
+		int index = SampleRegion.index(x, z);
+		Biome biome = region.biomes[index];
+		double noiseDensity = region.noise[index];
+		double density = treeGenerator.getBiomeDataBase(world).getDensity(biome).getDensity(new PositionalRandom(world.getSeed(), x, z, PositionalRandom.DENSITY), noiseDensity);
 		double size = ((1.0 - density) * 9);//Size is the inverse of density(Gives 0 to 9)
 
 		//Oh Joy. Random can potentially start with the same number for each chunk. Let's just 
@@ -47,16 +63,63 @@ public class BiomeRadiusCoordinator implements IRadiusCoordinator {
 		return MathHelper.clamp((int) size, 2 + shakelow, 8 - shakehigh);//Clamp to tree volume radius range
 	}
 
+	protected double sampleNoise(int x, int z) {
+		double scale = 128;//Effectively scales up the noisemap
+		return (noiseGenerator.getValue(x / scale, z / scale) + 1D) / 2.0D;//Gives 0.0 to 1.0
+	}
+
+	/**
+	 * @return The region holding the biome and noise samples for the coordinates, sampling them if necessary
+	 */
+	private SampleRegion sample(int x, int z) {
+		Metrics.RADIUS_SAMPLES.increment();
+
+		long key = ChunkPos.asLong(x >> 4, z >> 4);
+		SampleRegion region = regions.get(key);
+		if (region == null) {
+			region = new SampleRegion();
+			regions.put(key, region);
+		}
+
+		int index = SampleRegion.index(x, z);
+		if (region.biomes[index] == null) {
+			Metrics.RADIUS_SAMPLE_MISSES.increment();
+			region.biomes[index] = world.getBiome(new BlockPos(x + 8, 0, z + 8));//Placement is offset by +8,+8
+			region.noise[index] = sampleNoise(x, z);
+		}
+
+		return region;
+	}
+
+	/**
+	 * Forget all of the cached samples.  Needed if the biomes of the world are changed after generation.
+	 */
+	public void clearSamples() {
+		regions.clear();
+	}
+
 	@Override
 	public boolean runPass(int chunkX, int chunkZ, int pass) {
 		this.pass = pass;
 
 		if (pass == 0) {
-			Biome biome = world.getBiome(new BlockPos((chunkX << 4) + 8, 0, (chunkZ << 4) + 8));//Aim at center of chunk
+			Metrics.RADIUS_CHUNKS.increment();
+			int x = chunkX << 4;
+			int z = chunkZ << 4;
+			Biome biome = sample(x, z).biomes[SampleRegion.index(x, z)];//Aim at center of chunk
 			chunkMultipass = treeGenerator.getBiomeDataBase(world).getMultipass(biome);
 		}
 
 		return chunkMultipass.apply(pass) >= 0;
 	}
 
+	private static class SampleRegion {
+		final Biome[] biomes = new Biome[256];
+		final double[] noise = new double[256];
+
+		static int index(int x, int z) {
+			return ((z & 15) << 4) | (x & 15);
+		}
+	}
+
 }
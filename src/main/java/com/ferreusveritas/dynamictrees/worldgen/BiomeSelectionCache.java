@@ -0,0 +1,196 @@
+package com.ferreusveritas.dynamictrees.worldgen;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.ModConfigs;
+import com.ferreusveritas.dynamictrees.ModConstants;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.common.BiomeDictionary;
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers which biomes each section of a json populator selected so that the selection only has to be
+ * evaluated once per unique combination of json contents, biome registry and installed mods.
+ * <p>
+ * Results are kept in memory for repopulation during the same session and written to disk so that subsequent
+ * launches of the same modpack can skip selection entirely.  Each entry is keyed by a hash of everything the
+ * selection depends on so a stale entry can never be matched.
+ *
+ * @author ferreusveritas
+ */
+public class BiomeSelectionCache {
+
+	private static final int VERSION = 1;
+	private static final String CACHEFILE = "biomeselection.cache";
+
+	private static List<Biome> biomes;
+	private static String fingerprint;
+	private static Map<String, int[][]> entries;
+	private static final Map<String, int[][]> used = new HashMap<>();
+	private static boolean dirty = false;
+
+	/**
+	 * @return A snapshot of the biome registry in iteration order.  Selection results are indices into this list.
+	 */
+	public static List<Biome> getBiomes() {
+		if (biomes == null) {
+			List<Biome> list = new ArrayList<>();
+			Biome.REGISTRY.forEach(list::add);
+			biomes = Collections.unmodifiableList(list);
+		}
+		return biomes;
+	}
+
+	/**
+	 * Create a key for a json populator.
+	 *
+	 * @param json          The serialized json contents
+	 * @param selectorNames The selector capabilities available when the json is read
+	 */
+	public static String makeKey(String json, Iterable<String> selectorNames) {
+		StringBuilder builder = new StringBuilder(json).append('\n');
+		selectorNames.forEach(n -> builder.append(n).append(','));
+		builder.append('\n').append(getFingerprint());
+		return hash(builder.toString());
+	}
+
+	public static int[][] get(String key) {
+		int[][] result = getEntries().get(key);
+		if (result != null) {
+			used.put(key, result);
+		}
+		return result;
+	}
+
+	public static void put(String key, int[][] selection) {
+		getEntries().put(key, selection);
+		used.put(key, selection);
+		dirty = true;
+	}
+
+	/**
+	 * Writes out the entries used in this population pass and forgets the registry snapshot.  Entries that were
+	 * not used are dropped so the cache file doesn't grow without bound as configs change.
+	 */
+	public static void flush() {
+		if (ModConfigs.worldGenSelectionCache && (dirty || used.size() != getEntries().size())) {
+			save(used);
+		}
+		entries = new HashMap<>(used);
+		used.clear();
+		dirty = false;
+		biomes = null;
+		fingerprint = null;
+	}
+
+	private static String getFingerprint() {
+		if (fingerprint == null) {
+			StringBuilder builder = new StringBuilder();
+			for (Biome biome : getBiomes()) {
+				builder.append(Biome.getIdForBiome(biome)).append('=').append(biome.getRegistryName()).append(':');
+				builder.append(BiomeDictionary.getTypes(biome).stream().map(BiomeDictionary.Type::getName).sorted().collect(Collectors.joining(",")));
+				builder.append(';');
+			}
+			//Add-ons may register their own selectors so their versions are part of the fingerprint as well
+			for (ModContainer mod : Loader.instance().getActiveModList()) {
+				builder.append(mod.getModId()).append('@').append(mod.getVersion()).append(';');
+			}
+			fingerprint = hash(builder.toString());
+		}
+		return fingerprint;
+	}
+
+	private static String hash(String data) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(data.getBytes(StandardCharsets.UTF_8));
+			StringBuilder builder = new StringBuilder();
+			for (byte b : digest) {
+				builder.append(String.format("%02x", b));
+			}
+			return builder.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return Integer.toHexString(data.hashCode()) + Integer.toHexString(data.length());
+		}
+	}
+
+	private static Map<String, int[][]> getEntries() {
+		if (entries == null) {
+			entries = ModConfigs.worldGenSelectionCache ? load() : new HashMap<>();
+		}
+		return entries;
+	}
+
+	private static File getCacheFile() {
+		return new File(new File(new File(ModConfigs.configDirectory, ModConstants.MODID), "cache"), CACHEFILE);
+	}
+
+	private static Map<String, int[][]> load() {
+		Map<String, int[][]> map = new HashMap<>();
+		File file = getCacheFile();
+
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				if (in.readInt() == VERSION) {
+					int count = in.readInt();
+					for (int e = 0; e < count; e++) {
+						String key = in.readUTF();
+						int[][] selection = new int[in.readInt()][];
+						for (int s = 0; s < selection.length; s++) {
+							int[] indices = selection[s] = new int[in.readInt()];
+							for (int i = 0; i < indices.length; i++) {
+								indices[i] = in.readInt();
+							}
+						}
+						map.put(key, selection);
+					}
+				}
+			} catch (IOException e) {
+				DynamicTrees.log.warn("Discarding unreadable biome selection cache " + file + ": " + e.getMessage());
+				map.clear();
+			}
+		}
+
+		return map;
+	}
+
+	private static void save(Map<String, int[][]> map) {
+		File file = getCacheFile();
+		file.getParentFile().mkdirs();
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(map.size());
+			for (Map.Entry<String, int[][]> entry : map.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().length);
+				for (int[] indices : entry.getValue()) {
+					out.writeInt(indices.length);
+					for (int index : indices) {
+						out.writeInt(index);
+					}
+				}
+			}
+		} catch (IOException e) {
+			DynamicTrees.log.warn("Unable to write biome selection cache " + file + ": " + e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,184 @@
+package com.ferreusveritas.dynamictrees.worldgen;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import java.util.Arrays;
+
+/**
+ * Remembers the ground heights of block columns for the duration of a single decoration pass so that the ground
+ * finders and features don't repeat the same downward scans.
+ * <p>
+ * The cache covers the 32x32 block area that a decoration pass can write to and stores plain int arrays of
+ * surface heights, subterranean layer heights and the top full cube of each column.  Entries are filled lazily
+ * the first time a column is queried.  Anything that places blocks during the pass must
+ * {@link #invalidate(World, BlockPos, int)} the columns it touched.  Post generation features and event listeners
+ * from other mods can't be expected to, so the columns of a tree are invalidated after each of them runs.  The cache
+ * is discarded when the pass ends.
+ *
+ * @author ferreusveritas
+ */
+public class ColumnHeightCache {
+
+	public static final int UNKNOWN = Integer.MIN_VALUE;
+	public static final int NONE = -1;
+
+	private static final int SIZE = 32;
+	private static final int[] NOLAYERS = new int[0];
+
+	private static final ThreadLocal<ColumnHeightCache> current = new ThreadLocal<>();
+
+	private final World world;
+	private final int baseX;
+	private final int baseZ;
+	private final int[] surface = new int[SIZE * SIZE];
+	private final int[] solidTop = new int[SIZE * SIZE];
+	private final int[][] layers = new int[SIZE * SIZE][];
+
+	private ColumnHeightCache(World world, int chunkX, int chunkZ) {
+		this.world = world;
+		this.baseX = chunkX << 4;
+		this.baseZ = chunkZ << 4;
+		Arrays.fill(surface, UNKNOWN);
+		Arrays.fill(solidTop, UNKNOWN);
+	}
+
+	/**
+	 * Start caching for the decoration pass of the given chunk
+	 */
+	public static void begin(World world, int chunkX, int chunkZ) {
+		current.set(new ColumnHeightCache(world, chunkX, chunkZ));
+	}
+
+	/**
+	 * Discard the cache at the end of the decoration pass
+	 */
+	public static void end() {
+		current.remove();
+	}
+
+	/**
+	 * @return The cache for the decoration pass in progress on this thread or null if there isn't one for this world
+	 */
+	public static ColumnHeightCache get(World world) {
+		ColumnHeightCache cache = current.get();
+		return cache != null && cache.world == world ? cache : null;
+	}
+
+	/**
+	 * Forget the heights of every column within the radius of a position.  Safe to call when no pass is in progress.
+	 */
+	public static void invalidate(World world, BlockPos center, int radius) {
+		ColumnHeightCache cache = get(world);
+		if (cache != null) {
+			cache.invalidate(center.getX() - radius, center.getZ() - radius, center.getX() + radius, center.getZ() + radius);
+		}
+	}
+
+	/**
+	 * Forget the heights of every column a worldgen tree at the given root could have changed.  This covers the
+	 * leaf clusters that overhang the tree's radius and the features placed around it.
+	 */
+	public static void invalidateTree(World world, BlockPos rootPos, int radius) {
+		invalidate(world, rootPos, radius + 8);
+	}
+
+	public void invalidate(int minX, int minZ, int maxX, int maxZ) {
+		int x1 = Math.max(minX - baseX, 0);
+		int z1 = Math.max(minZ - baseZ, 0);
+		int x2 = Math.min(maxX - baseX, SIZE - 1);
+		int z2 = Math.min(maxZ - baseZ, SIZE - 1);
+
+		for (int z = z1; z <= z2; z++) {
+			for (int x = x1; x <= x2; x++) {
+				int i = z * SIZE + x;
+				surface[i] = UNKNOWN;
+				solidTop[i] = UNKNOWN;
+				layers[i] = null;
+			}
+		}
+	}
+
+	/** @return The array index of the column or -1 if it's outside of the cached area */
+	private int index(int x, int z) {
+		x -= baseX;
+		z -= baseZ;
+		return x >= 0 && x < SIZE && z >= 0 && z < SIZE ? z * SIZE + x : -1;
+	}
+
+	/**
+	 * @return The surface height as found by the overworld ground finder, {@link #NONE} if there is no ground or
+	 * {@link #UNKNOWN} if the column hasn't been scanned yet.
+	 */
+	public int getSurface(int x, int z) {
+		int i = index(x, z);
+		return i >= 0 ? surface[i] : UNKNOWN;
+	}
+
+	public void setSurface(int x, int z, int y) {
+		int i = index(x, z);
+		if (i >= 0) {
+			surface[i] = y;
+		}
+	}
+
+	/**
+	 * @return The ground heights of every subterranean layer in ascending order or null if the column hasn't been
+	 * scanned yet.
+	 */
+	public int[] getLayers(int x, int z) {
+		int i = index(x, z);
+		return i >= 0 ? layers[i] : null;
+	}
+
+	public void setLayers(int x, int z, int[] heights) {
+		int i = index(x, z);
+		if (i >= 0) {
+			layers[i] = heights.length == 0 ? NOLAYERS : heights;
+		}
+	}
+
+	/**
+	 * @return The height of the highest full cube block in the column or {@link #NONE} if there isn't one.
+	 * Columns outside of the cached area or in unloaded chunks return {@link #UNKNOWN}.
+	 */
+	public int getSolidTop(int x, int z) {
+		int i = index(x, z);
+		if (i < 0) {
+			return UNKNOWN;
+		}
+
+		if (solidTop[i] == UNKNOWN) {
+			Chunk chunk = world.getChunkProvider().getLoadedChunk(x >> 4, z >> 4);
+			if (chunk == null) {
+				return UNKNOWN;
+			}
+			solidTop[i] = scanSolidTop(chunk, x & 15, z & 15);
+		}
+
+		return solidTop[i];
+	}
+
+	private static int scanSolidTop(Chunk chunk, int x, int z) {
+		ExtendedBlockStorage[] storageArray = chunk.getBlockStorageArray();
+
+		for (int s = storageArray.length - 1; s >= 0; s--) {
+			ExtendedBlockStorage storage = storageArray[s];
+			if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty()) {
+				continue;
+			}
+			for (int y = 15; y >= 0; y--) {
+				IBlockState state = storage.get(x, y, z);
+				if (state.isFullCube()) {
+					return (s << 4) + y;
+				}
+			}
+		}
+
+		return NONE;
+	}
+
+}
@@ -20,6 +20,8 @@ import com.ferreusveritas.dynamictrees.trees.TreeFamily;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import com.ferreusveritas.dynamictrees.util.SimpleVoxmap;
 import com.ferreusveritas.dynamictrees.util.SimpleVoxmap.Cell;
+import com.ferreusveritas.dynamictrees.util.SparseVoxmap;
+import com.ferreusveritas.dynamictrees.worldgen.WorldGenProfiler.Stage;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -32,6 +34,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
 import net.minecraftforge.common.MinecraftForge;
 
+import java.lang.reflect.Method;
 import java.util.*;
 
 /**
@@ -104,6 +107,13 @@ public class JoCode {
 	//"Pointers" to the current rotation direction.
 	private byte[] facingMap = dirmap[2];//Default to NORTH(Effectively an identity matrix)
 	private byte[] unfacingMap = dirmap[2];//Default to NORTH(Effectively an identity matrix)
+	private int unfacingNum = 2;
+
+	/**
+	 * Branch geometry compiled for each facing.  Built lazily and discarded whenever the instructions change.
+	 */
+	private final CompiledCode[] compiled = new CompiledCode[EnumFacing.VALUES.length];
+	private byte[] compiledInstructions;
 
 	/**
 	 * Get the instruction at a locus. Automatically performs rotation based on what facing matrix is selected.
@@ -126,6 +136,7 @@ public class JoCode {
 		facingMap = dirmap[faceNum];
 		faceNum = (faceNum == 4) ? 5 : (faceNum == 5) ? 4 : faceNum;//Swap West and East
 		unfacingMap = dirmap[faceNum];
+		unfacingNum = faceNum;
 		return this;
 	}
 
@@ -140,6 +151,7 @@ public class JoCode {
 		for (int c = 0; c < instructions.length; c++) {
 			instructions[c] = facingMap[instructions[c]];
 		}
+		compiledInstructions = null;//The instructions have changed so the compiled geometry is no longer valid
 		return this;
 	}
 
@@ -168,7 +180,9 @@ public class JoCode {
 			species.placeRootyDirtBlock(world, rootPos, 0);//Set to unfertilized rooty dirt
 
 			//Make the tree branch structure
-			generateFork(world, species, 0, rootPos, false);
+			WorldGenProfiler.start(Stage.BRANCHES);
+			generateBranches(world, species, rootPos);
+			WorldGenProfiler.stop(Stage.BRANCHES);
 
 			// Establish a position for the bottom block of the trunk
 			BlockPos treePos = rootPos.up();
@@ -183,7 +197,9 @@ public class JoCode {
 				NodeFindEnds endFinder = new NodeFindEnds();// This is responsible for gathering a list of branch end points
 				MapSignal signal = new MapSignal(inflator, endFinder);// The inflator signal will "paint" a temporary voxmap of all of the leaves and branches.
 				signal.destroyLoopedNodes = careful;// During worldgen we will not destroy looped nodes
+				WorldGenProfiler.start(Stage.INFLATE);
 				branch.analyse(treeState, world, treePos, EnumFacing.DOWN, signal);
+				WorldGenProfiler.stop(Stage.INFLATE);
 				if (signal.found || signal.overflow) {// Something went terribly wrong.
 					DynamicTrees.log.debug("Non-viable branch network detected during world generation @ " + treePos);
 					DynamicTrees.log.debug("Species: " + species);
@@ -202,9 +218,12 @@ public class JoCode {
 				}
 				List<BlockPos> endPoints = endFinder.getEnds();
 
+				WorldGenProfiler.start(Stage.SMOTHER);
 				smother(leafMap, leavesProperties);//Use the voxmap to precompute leaf smothering so we don't have to age it as many times.
+				WorldGenProfiler.stop(Stage.SMOTHER);
 
 				//Place Growing Leaves Blocks from voxmap
+				WorldGenProfiler.start(Stage.LEAVES);
 				for (Cell cell : leafMap.getAllNonZeroCells((byte) 0x0F)) {//Iterate through all of the cells that are leaves(not air or branches)
 					MutableBlockPos cellPos = cell.getPos();
 					if (safeBounds.inBounds(cellPos, false)) {
@@ -225,21 +244,34 @@ public class JoCode {
 						leafMap.setVoxel(cellPos, (byte) 0);
 					}
 				}
+				WorldGenProfiler.stop(Stage.LEAVES);
 
 				//Age volume for 3 cycles using a leafmap
+				WorldGenProfiler.start(Stage.AGE);
 				TreeHelper.ageVolume(world, leafMap, species.getWorldGenAgeIterations(), safeBounds);
+				WorldGenProfiler.stop(Stage.AGE);
 
 				//Rot the unsupported branches
-				if (species.handleRot(world, endPoints, rootPos, treePos, 0, safeBounds)) {
+				WorldGenProfiler.start(Stage.ROT);
+				boolean rotted = species.handleRot(world, endPoints, rootPos, treePos, 0, safeBounds);
+				WorldGenProfiler.stop(Stage.ROT);
+				if (rotted) {
 					return;//The entire tree rotted away before it had a chance
 				}
 
 				//Allow for special decorations by the tree itself
+				WorldGenProfiler.start(Stage.POSTGEN);
+				ColumnHeightCache.invalidateTree(world, rootPos, radius);//The tree itself has changed the ground heights
 				species.postGeneration(world, rootPos, biome, radius, endPoints, safeBounds, initialDirtState);
+				ColumnHeightCache.invalidateTree(world, rootPos, radius);//In case an overridden postGeneration placed blocks
 				MinecraftForge.EVENT_BUS.post(new SpeciesPostGenerationEvent(world, species, rootPos, endPoints, safeBounds, initialDirtState));
+				ColumnHeightCache.invalidateTree(world, rootPos, radius);//Event listeners don't know about the cache either
+				WorldGenProfiler.stop(Stage.POSTGEN);
 
 				//Add snow to parts of the tree in chunks where snow was already placed
+				WorldGenProfiler.start(Stage.SNOW);
 				addSnow(leafMap, world, rootPos, biome);
+				WorldGenProfiler.stop(Stage.SNOW);
 
 			} else { //The growth failed.. turn the soil back to what it was
 				world.setBlockState(rootPos, initialDirtState, careful ? 3 : 2);
@@ -271,8 +303,9 @@ public class JoCode {
 						if (leavesProperties != LeavesProperties.NULLPROPERTIES) {
 							SimpleVoxmap leafCluster = leavesProperties.getCellKit().getLeafCluster();
 							if (leafCluster != LeafClusters.NULLMAP) {
-								for (Cell cell : leafCluster.getAllNonZeroCells()) {
-									BlockPos delPos = pos.add(cell.getPos());
+								SparseVoxmap leafCells = LeafClusters.getSparse(leafCluster);
+								for (int i = 0; i < leafCells.size(); i++) {
+									BlockPos delPos = pos.add(leafCells.getX(i), leafCells.getY(i), leafCells.getZ(i));
 									if (safeBounds.inBounds(delPos, false)) {
 										IBlockState leavesState = world.getBlockState(delPos);
 										if (TreeHelper.isLeaves(leavesState)) {
@@ -307,6 +340,77 @@ public class JoCode {
 		}*/
 	}
 
+	/**
+	 * Places the branches of a tree by replaying the precompiled geometry for the active facing.  This
+	 * produces exactly the same result as calling {@link #generateFork} from the start of the instructions, which
+	 * is still done for subclasses that override it.
+	 *
+	 * @param world
+	 * @param species
+	 * @param rootPos The position of the rooty dirt block
+	 */
+	protected void generateBranches(World world, Species species, BlockPos rootPos) {
+		if (usesRecursiveGeneration.get(getClass())) {
+			generateFork(world, species, 0, rootPos, false);
+			return;
+		}
+
+		CompiledCode code = getCompiledCode();
+		int[] offsets = code.offsets;
+		byte[] dirs = code.dirs;
+		int[] preceding = code.preceding;
+		boolean[] disabled = new boolean[code.size()];
+		int rootX = rootPos.getX();
+		int rootY = rootPos.getY();
+		int rootZ = rootPos.getZ();
+
+		for (int i = 0; i < disabled.length; i++) {
+			int prev = preceding[i];
+			boolean dis = prev >= 0 && disabled[prev];
+			int y = rootY + offsets[i * 3 + 1];
+			if (!dis && y >= 0 && y < world.getHeight()) {//Nothing can be placed outside of the world so don't bother trying
+				dis = setBlockForGeneration(world, species, new BlockPos(rootX + offsets[i * 3], y, rootZ + offsets[i * 3 + 2]), EnumFacing.VALUES[dirs[i]], careful);
+			}
+			disabled[i] = dis;
+		}
+	}
+
+	/**
+	 * Subclasses that override {@link #generateFork} or {@link #getCode} expect the branches to be drawn by the
+	 * recursive path so the precompiled geometry is skipped for them.
+	 */
+	private static final ClassValue<Boolean> usesRecursiveGeneration = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> c = type; c != JoCode.class && c != null; c = c.getSuperclass()) {
+				for (Method method : c.getDeclaredMethods()) {
+					if (method.getName().equals("generateFork") || method.getName().equals("getCode")) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	};
+
+	/**
+	 * @return The branch geometry of this code for the active facing.  Compiled on first use.
+	 */
+	public CompiledCode getCompiledCode() {
+		if (compiledInstructions != instructions) {
+			Arrays.fill(compiled, null);
+			compiledInstructions = instructions;
+		}
+
+		CompiledCode code = compiled[unfacingNum];
+		if (code == null) {
+			code = new CompiledCode(instructions, unfacingMap);
+			compiled[unfacingNum] = code;
+		}
+
+		return code;
+	}
+
 	/**
 	 * Recursive function that "draws" a branch of a tree
 	 *
@@ -435,23 +539,14 @@ public class JoCode {
 
 	static public String encode(byte[] array) {
 
-		//Convert byte array to ArrayList of Byte
-		ArrayList<Byte> instructions = new ArrayList<>(array.length + (array.length & 1));
-		for (byte b : array) {
-			instructions.add(b);
-		}
-
-		if ((instructions.size() & 1) == 1) {//Check if odd
-			instructions.add(returnCode);//Add a return code to even up the series
-		}
-
 		//Smallest Base64 encoder ever.
-		String code = "";
-		for (int b = 0; b < instructions.size(); b += 2) {
-			code += base64.charAt(instructions.get(b) << 3 | instructions.get(b + 1));
+		StringBuilder code = new StringBuilder((array.length + 1) / 2);
+		for (int b = 0; b < array.length; b += 2) {
+			int second = b + 1 < array.length ? array[b + 1] : returnCode;//Add a return code to even up the series if odd
+			code.append(base64.charAt(array[b] << 3 | second));
 		}
 
-		return code;
+		return code.toString();
 	}
 
 	static public byte[] decode(String code) {
@@ -463,23 +558,88 @@ public class JoCode {
 		return encode(instructions);
 	}
 
+	/**
+	 * The branch geometry of a {@link JoCode} for a single facing, flattened into arrays.  Each step holds its
+	 * position relative to the rooty dirt block, the direction it was grown in and the index of the step that
+	 * precedes it on the same fork so the recursive instruction stream can be replayed linearly.
+	 */
+	public static class CompiledCode {
+
+		/** x, y, z triples relative to the root position */
+		public final int[] offsets;
+		public final byte[] dirs;
+		/** The index of the preceding step on the same fork or -1 for steps that start at the root */
+		public final int[] preceding;
+
+		private int size = 0;
+
+		public CompiledCode(byte[] instructions, byte[] unfacingMap) {
+			int count = 0;
+			for (byte instruction : instructions) {
+				if (instruction != forkCode && instruction != returnCode) {
+					count++;
+				}
+			}
+
+			offsets = new int[count * 3];
+			dirs = new byte[count];
+			preceding = new int[count];
+
+			compileFork(instructions, unfacingMap, 0, 0, 0, 0, -1);
+		}
+
+		private int compileFork(byte[] instructions, byte[] unfacingMap, int codePos, int x, int y, int z, int prev) {
+			while (codePos < instructions.length) {
+				int code = unfacingMap[instructions[codePos]];
+				switch (code) {
+					case forkCode:
+						codePos = compileFork(instructions, unfacingMap, codePos + 1, x, y, z, prev);
+						break;
+					case returnCode:
+						return codePos + 1;
+					default:
+						EnumFacing dir = EnumFacing.VALUES[code];
+						x += dir.getFrontOffsetX();
+						y += dir.getFrontOffsetY();
+						z += dir.getFrontOffsetZ();
+						offsets[size * 3] = x;
+						offsets[size * 3 + 1] = y;
+						offsets[size * 3 + 2] = z;
+						dirs[size] = (byte) code;
+						preceding[size] = prev;
+						prev = size++;
+						codePos++;
+						break;
+				}
+			}
+
+			return codePos;
+		}
+
+		public int size() {
+			return size;
+		}
+
+	}
+
 	/**
 	 * A tidy class for handling byte code adding and conversion to byte array
 	 */
 	public static class CodeCompiler {
 
-		ArrayList<Byte> instructions;
+		byte[] instructions;
+		int size = 0;
 
 		public CodeCompiler() {
-			instructions = new ArrayList<>();
+			this(64);
 		}
 
 		public CodeCompiler(int size) {
-			instructions = new ArrayList<>(size);
+			instructions = new byte[Math.max(size, 16)];
 		}
 
 		public CodeCompiler(String code) {
-			instructions = new ArrayList<>(code.length() * 2);
+			this(code.length() * 2);
 
 			//Smallest Base64 decoder ever.
 			for (int i = 0; i < code.length(); i++) {
@@ -493,32 +653,27 @@ public class JoCode {
 
 		public void addDirection(byte dir) {
 			if (dir >= 0) {
-				instructions.add((byte) (dir & 7));
+				addInstruction((byte) (dir & 7));
 			}
 		}
 
 		public void addInstruction(byte instruction) {
-			instructions.add(instruction);
+			if (size == instructions.length) {
+				instructions = Arrays.copyOf(instructions, size * 2);
+			}
+			instructions[size++] = instruction;
 		}
 
 		public void addReturn() {
-			instructions.add(returnCode);
+			addInstruction(returnCode);
 		}
 
 		public void addFork() {
-			instructions.add(forkCode);
+			addInstruction(forkCode);
 		}
 
 		public byte[] compile() {
-			byte[] array = new byte[instructions.size()];
-			Iterator<Byte> i = instructions.iterator();
-
-			int pos = 0;
-			while (i.hasNext()) {
-				array[pos++] = i.next().byteValue();
-			}
-
-			return array;
+			return Arrays.copyOf(instructions, size);
 		}
 
 	}
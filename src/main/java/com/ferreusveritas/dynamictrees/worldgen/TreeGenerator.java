@@ -7,10 +7,12 @@ import com.ferreusveritas.dynamictrees.api.worldgen.BiomePropertySelectors.Speci
 import com.ferreusveritas.dynamictrees.api.worldgen.IGroundFinder;
 import com.ferreusveritas.dynamictrees.systems.poissondisc.PoissonDisc;
 import com.ferreusveritas.dynamictrees.systems.poissondisc.PoissonDiscProviderUniversal;
+import com.ferreusveritas.dynamictrees.systems.metrics.Metrics;
 import com.ferreusveritas.dynamictrees.trees.Species;
-import com.ferreusveritas.dynamictrees.util.RandomXOR;
+import com.ferreusveritas.dynamictrees.util.PositionalRandom;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import com.ferreusveritas.dynamictrees.worldgen.BiomeDataBase.BiomeEntry;
+import com.ferreusveritas.dynamictrees.worldgen.WorldGenProfiler.Stage;
 import net.minecraft.block.BlockColored;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -29,7 +31,6 @@ public class TreeGenerator {
 	protected final BiomeDataBase defaultBiomeDataBase;
 	public static final BiomeDataBase DIMENSIONBLACKLISTED = new BiomeDataBase();
 	protected final PoissonDiscProviderUniversal circleProvider;
-	protected final RandomXOR random = new RandomXOR();
 	protected final Map<Integer, BiomeDataBase> dimensionMap = new HashMap<>();
 
 	public static void preInit() {
@@ -74,6 +75,11 @@ public class TreeGenerator {
 		defaultBiomeDataBase.clear();
 	}
 
+	public void compileBiomeDataBases() {
+		defaultBiomeDataBase.compile();
+		dimensionMap.values().stream().distinct().forEach(BiomeDataBase::compile);
+	}
+
 	public boolean validateBiomeDataBases() {
 		return defaultBiomeDataBase.isValid() && dimensionMap.values().stream().allMatch(db -> db.isValid());
 	}
@@ -128,8 +134,15 @@ public class TreeGenerator {
 		}
 	}
 
+	/**
+	 * Generates the tree for a single disc.  Trees are generated one after another on the world thread: JoCode places
+	 * the branches straight into the world and inflation, leaf placement, aging and rot all work by analysing the
+	 * branch blocks already placed there, so a tree can't be planned apart from the world it grows in.
+	 */
 	public EnumGeneratorResult makeTree(World world, BiomeDataBase biomeDataBase, PoissonDisc circle, IGroundFinder groundFinder, SafeChunkBounds safeBounds) {
 
+		WorldGenProfiler.start(Stage.TOTAL);
+		long timer = Metrics.startTimer();
 		circle.add(8, 8);//Move the circle into the "stage"
 
 		BlockPos pos = new BlockPos(circle.x, 0, circle.z);
@@ -137,25 +150,34 @@ public class TreeGenerator {
 		Biome biome = world.getBiome(pos);
 		BiomeEntry biomeEntry = biomeDataBase.getEntry(biome);
 
+		WorldGenProfiler.start(Stage.GROUND);
 		pos = groundFinder.findGround(biomeEntry, world, pos);
+		WorldGenProfiler.stop(Stage.GROUND);
 
 		if (pos == BlockPos.ORIGIN) {
+			WorldGenProfiler.stop(Stage.TOTAL);
+			Metrics.WORLDGEN_TIME.stopTimer(timer);
 			return EnumGeneratorResult.NOGROUND;
 		}
 
-		random.setXOR(pos);
+		//Every tree gets its own generator derived from the world seed and its position so the outcome doesn't depend
+		//on the order in which trees are generated.  Selection and chance draw from their own independent streams.
+		PositionalRandom random = new PositionalRandom(world.getSeed(), pos, PositionalRandom.TREE);
 
 		IBlockState dirtState = world.getBlockState(pos);
 
 		EnumGeneratorResult result = EnumGeneratorResult.GENERATED;
 
-		SpeciesSelection speciesSelection = biomeEntry.getSpeciesSelector().getSpecies(pos, dirtState, random);
+		WorldGenProfiler.start(Stage.SELECTION);
+		SpeciesSelection speciesSelection = biomeEntry.getSpeciesSelector().getSpecies(pos, dirtState, random.split(PositionalRandom.SPECIES));
+		WorldGenProfiler.stop(Stage.SELECTION);
 		if (speciesSelection.isHandled()) {
 			Species species = speciesSelection.getSpecies();
 			if (species.isValid()) {
 				if (species.isAcceptableSoilForWorldgen(world, pos, dirtState)) {
-					if (biomeEntry.getChanceSelector().getChance(random, species, circle.radius) == EnumChance.OK) {
+					if (biomeEntry.getChanceSelector().getChance(random.split(PositionalRandom.CHANCE), species, circle.radius) == EnumChance.OK) {
 						if (species.generate(world, pos, biome, random, circle.radius, safeBounds)) {
+							Metrics.WORLDGEN_TREES.increment();
 							result = EnumGeneratorResult.GENERATED;
 						} else {
 							result = EnumGeneratorResult.FAILGENERATION;
@@ -178,8 +200,12 @@ public class TreeGenerator {
 			makeWoolCircle(world, circle, pos.getY(), result, safeBounds);
 		}
 
+		ColumnHeightCache.invalidateTree(world, new BlockPos(circle.x, 0, circle.z), circle.radius);
+
 		circle.add(-8, -8);//Move the circle back to normal coords
 
+		WorldGenProfiler.stop(Stage.TOTAL);
+		Metrics.WORLDGEN_TIME.stopTimer(timer);
 		return result;
 	}
 
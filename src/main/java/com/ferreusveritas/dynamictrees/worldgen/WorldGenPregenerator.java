@@ -0,0 +1,298 @@
+package com.ferreusveritas.dynamictrees.worldgen;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.ModConfigs;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Generates (and so decorates with trees) a rectangular range of chunks a few at a time on the server thread.
+ * <p>
+ * Chunks are generated through the chunk provider so population runs exactly as it does for players, including
+ * the Poisson disc provider and the "GTCD" disc data saved with each chunk.  The job is throttled to a number of
+ * chunks per tick and holds off entirely while the average server tick time is above a threshold.  Progress is
+ * periodically written to the world's data folder so an interrupted job can be resumed after a restart.
+ *
+ * @author ferreusveritas
+ */
+public class WorldGenPregenerator {
+
+	public enum State {
+		RUNNING,
+		PAUSED,
+		FINISHED
+	}
+
+	private static final String FILENAME = "dynamictrees_pregen.dat";
+	private static final int SAVEINTERVAL = 256;//Chunks between progress saves
+	private static final long REPORTINTERVAL = 30000;//Milliseconds between progress reports in the log
+
+	private static WorldGenPregenerator job;
+	private static boolean loaded = false;
+
+	private final int dimension;
+	private final int minX;
+	private final int minZ;
+	private final int maxX;
+	private final int maxZ;
+	private long index;
+	private State state;
+
+	//Statistics for this session only
+	private long sessionStart;
+	private long sessionChunks;
+	private long throttledTicks;
+	private long lastReport;
+
+	private WorldGenPregenerator(int dimension, int x1, int z1, int x2, int z2, long index, State state) {
+		this.dimension = dimension;
+		this.minX = Math.min(x1, x2);
+		this.minZ = Math.min(z1, z2);
+		this.maxX = Math.max(x1, x2);
+		this.maxZ = Math.max(z1, z2);
+		this.index = index;
+		this.state = state;
+		resetSession();
+	}
+
+	public static WorldGenPregenerator getJob() {
+		if (!loaded && DimensionManager.getWorld(0) != null) {
+			job = load();//Pick up a job interrupted by a restart
+			loaded = true;
+		}
+		return job;
+	}
+
+	/**
+	 * Start a new job.  Any existing job is replaced.
+	 */
+	public static WorldGenPregenerator start(World world, int x1, int z1, int x2, int z2) {
+		job = new WorldGenPregenerator(world.provider.getDimension(), x1, z1, x2, z2, 0, State.RUNNING);
+		loaded = true;
+		job.save();
+		return job;
+	}
+
+	public static void stop() {
+		job = null;
+		File file = getFile();
+		if (file != null && file.exists()) {
+			file.delete();
+		}
+	}
+
+	public int getDimension() {
+		return dimension;
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	public void setPaused(boolean paused) {
+		if (state != State.FINISHED) {
+			state = paused ? State.PAUSED : State.RUNNING;
+			resetSession();
+			save();
+		}
+	}
+
+	//The range is generated one chunk wider on the positive sides so that every chunk in the requested range has the
+	//neighbors it needs to be populated.
+	private int getWidth() {
+		return maxX - minX + 2;
+	}
+
+	private int getDepth() {
+		return maxZ - minZ + 2;
+	}
+
+	public long getTotal() {
+		return (long) getWidth() * getDepth();
+	}
+
+	public long getIndex() {
+		return index;
+	}
+
+	public double getChunksPerSecond() {
+		long elapsed = System.currentTimeMillis() - sessionStart;
+		return elapsed > 0 ? sessionChunks * 1000.0 / elapsed : 0;
+	}
+
+	public long getThrottledTicks() {
+		return throttledTicks;
+	}
+
+	private void resetSession() {
+		sessionStart = lastReport = System.currentTimeMillis();
+		sessionChunks = 0;
+		throttledTicks = 0;
+	}
+
+	public String getRange() {
+		return minX + "," + minZ + " to " + maxX + "," + maxZ;
+	}
+
+	/**
+	 * Called at the end of every server tick
+	 */
+	public static void onServerTick() {
+		WorldGenPregenerator job = getJob();
+		if (job != null && job.state == State.RUNNING) {
+			job.tick();
+		}
+	}
+
+	public static void onWorldUnload(World world) {
+		if (job != null && world.provider.getDimension() == 0) {
+			job.save();//The server is shutting down.  Keep the progress so the job continues next time it starts.
+		}
+		if (world.provider.getDimension() == 0) {
+			job = null;
+			loaded = false;
+		}
+	}
+
+	private void tick() {
+		WorldServer world = DimensionManager.getWorld(dimension);
+		if (world == null) {
+			if (!DimensionManager.isDimensionRegistered(dimension)) {
+				DynamicTrees.log.warn("Tree pregeneration paused since dimension " + dimension + " does not exist");
+				setPaused(true);
+				return;
+			}
+			DimensionManager.initDimension(dimension);
+			world = DimensionManager.getWorld(dimension);
+			if (world == null) {
+				return;
+			}
+		}
+
+		MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+		if (ModConfigs.pregenMaxTickMillis > 0 && server != null && getMeanTickMillis(server) > ModConfigs.pregenMaxTickMillis) {
+			throttledTicks++;
+			return;
+		}
+
+		ChunkProviderServer provider = world.getChunkProvider();
+		int width = getWidth();
+		long total = getTotal();
+
+		for (int i = 0; i < ModConfigs.pregenChunksPerTick && index < total; i++, index++) {
+			int x = minX + (int) (index % width);
+			int z = minZ + (int) (index / width);
+
+			provider.provideChunk(x, z);//Loads or generates the chunk and populates any neighbors that are now complete
+			sessionChunks++;
+
+			//Chunks two rows back are no longer needed to populate their neighbors
+			unload(world, provider, x, z - 2);
+
+			if (index % SAVEINTERVAL == 0) {
+				save();
+			}
+		}
+
+		if (index >= total) {
+			for (int x = minX; x < minX + width; x++) {
+				unload(world, provider, x, minZ + getDepth() - 2);
+				unload(world, provider, x, minZ + getDepth() - 1);
+			}
+			state = State.FINISHED;
+			save();
+			DynamicTrees.log.info("Tree pregeneration of chunks " + getRange() + " finished");
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		if (now - lastReport > REPORTINTERVAL) {
+			lastReport = now;
+			DynamicTrees.log.info(String.format("Tree pregeneration %d/%d chunks (%.1f%%) at %.2f chunks/s", index, total, index * 100.0 / total, getChunksPerSecond()));
+		}
+	}
+
+	private void unload(WorldServer world, ChunkProviderServer provider, int x, int z) {
+		if (z >= minZ && !world.getPlayerChunkMap().contains(x, z)) {
+			Chunk chunk = provider.getLoadedChunk(x, z);
+			if (chunk != null) {
+				provider.queueUnload(chunk);
+			}
+		}
+	}
+
+	public static double getMeanTickMillis(MinecraftServer server) {
+		long sum = 0;
+		for (long time : server.tickTimeArray) {
+			sum += time;
+		}
+		return sum / (double) server.tickTimeArray.length / 1.0E6;
+	}
+
+	private static File getFile() {
+		World overworld = DimensionManager.getWorld(0);
+		if (overworld == null) {
+			return null;
+		}
+		return new File(new File(overworld.getSaveHandler().getWorldDirectory(), "data"), FILENAME);
+	}
+
+	private void save() {
+		File file = getFile();
+		if (file == null) {
+			return;
+		}
+
+		NBTTagCompound nbt = new NBTTagCompound();
+		nbt.setInteger("dim", dimension);
+		nbt.setInteger("minX", minX);
+		nbt.setInteger("minZ", minZ);
+		nbt.setInteger("maxX", maxX);
+		nbt.setInteger("maxZ", maxZ);
+		nbt.setLong("index", index);
+		nbt.setString("state", state.name());
+
+		try {
+			file.getParentFile().mkdirs();
+			CompressedStreamTools.write(nbt, file);
+		} catch (IOException e) {
+			DynamicTrees.log.error("Unable to save tree pregeneration progress to " + file, e);
+		}
+	}
+
+	private static WorldGenPregenerator load() {
+		File file = getFile();
+		if (file == null || !file.exists()) {
+			return null;
+		}
+
+		try {
+			NBTTagCompound nbt = CompressedStreamTools.read(file);
+			if (nbt != null) {
+				State state;
+				try {
+					state = State.valueOf(nbt.getString("state"));
+				} catch (IllegalArgumentException e) {
+					state = State.PAUSED;
+				}
+				return new WorldGenPregenerator(nbt.getInteger("dim"), nbt.getInteger("minX"), nbt.getInteger("minZ"),
+					nbt.getInteger("maxX"), nbt.getInteger("maxZ"), nbt.getLong("index"), state);
+			}
+		} catch (IOException e) {
+			DynamicTrees.log.error("Unable to load tree pregeneration progress from " + file, e);
+		}
+
+		return null;
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.ferreusveritas.dynamictrees.worldgen;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the time and memory allocation spent in each stage of worldgen tree creation.
+ * <p>
+ * Profiling is off by default and every hook reduces to a single boolean check while disabled.
+ * While enabled each stage records its wall time and, where the JVM supports it, the number of
+ * bytes allocated by the generating thread.
+ *
+ * @author ferreusveritas
+ */
+public class WorldGenProfiler {
+
+	public enum Stage {
+		TOTAL("Total"),
+		GROUND("Ground Finding"),
+		SELECTION("Species Selection"),
+		BRANCHES("JoCode Branches"),
+		INFLATE("Node Inflation"),
+		SMOTHER("Smothering"),
+		LEAVES("Leaves Placement"),
+		AGE("Volume Aging"),
+		ROT("Rot Handling"),
+		POSTGEN("Post Generation"),
+		SNOW("Snow");
+
+		private final String label;
+
+		Stage(String label) {
+			this.label = label;
+		}
+
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	private static final Stage[] STAGES = Stage.values();
+
+	private static volatile boolean enabled = false;
+
+	private static final LongAdder[] counts = new LongAdder[STAGES.length];
+	private static final LongAdder[] nanos = new LongAdder[STAGES.length];
+	private static final LongAdder[] bytes = new LongAdder[STAGES.length];
+
+	/** Per thread start markers.  Even indices hold start times, odd indices hold allocated byte counts */
+	private static final ThreadLocal<long[]> marks = ThreadLocal.withInitial(() -> new long[STAGES.length * 2]);
+
+	private static final com.sun.management.ThreadMXBean allocBean;
+
+	static {
+		for (int i = 0; i < STAGES.length; i++) {
+			counts[i] = new LongAdder();
+			nanos[i] = new LongAdder();
+			bytes[i] = new LongAdder();
+		}
+
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		com.sun.management.ThreadMXBean sunBean = null;
+		try {
+			if (bean instanceof com.sun.management.ThreadMXBean) {
+				sunBean = (com.sun.management.ThreadMXBean) bean;
+				if (sunBean.isThreadAllocatedMemorySupported()) {
+					sunBean.setThreadAllocatedMemoryEnabled(true);
+				} else {
+					sunBean = null;
+				}
+			}
+		} catch (UnsupportedOperationException | LinkageError e) {
+			sunBean = null;
+		}
+		allocBean = sunBean;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+	}
+
+	public static boolean isAllocationTracked() {
+		return allocBean != null;
+	}
+
+	public static void start(Stage stage) {
+		if (enabled) {
+			long[] m = marks.get();
+			m[stage.ordinal() * 2 + 1] = allocatedBytes();
+			m[stage.ordinal() * 2] = System.nanoTime();
+		}
+	}
+
+	public static void stop(Stage stage) {
+		if (enabled) {
+			long now = System.nanoTime();
+			long[] m = marks.get();
+			int i = stage.ordinal();
+			if (m[i * 2] != 0) {
+				nanos[i].add(now - m[i * 2]);
+				bytes[i].add(allocatedBytes() - m[i * 2 + 1]);
+				counts[i].increment();
+				m[i * 2] = 0;
+			}
+		}
+	}
+
+	private static long allocatedBytes() {
+		return allocBean != null ? allocBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+	}
+
+	public static void reset() {
+		for (int i = 0; i < STAGES.length; i++) {
+			counts[i].reset();
+			nanos[i].reset();
+			bytes[i].reset();
+		}
+	}
+
+	/**
+	 * @return A human readable line per stage with invocation count, total and average time and average allocation.
+	 */
+	public static List<String> report() {
+		List<String> lines = new ArrayList<>();
+		long totalNanos = Math.max(1, nanos[Stage.TOTAL.ordinal()].sum());
+
+		for (Stage stage : STAGES) {
+			int i = stage.ordinal();
+			long count = counts[i].sum();
+			long n = nanos[i].sum();
+			long b = bytes[i].sum();
+			long div = Math.max(1, count);
+			lines.add(String.format("%-18s n=%-7d total=%9.2fms avg=%8.1fus %5.1f%% alloc/avg=%s",
+				stage.getLabel(), count, n / 1e6, n / 1e3 / div, n * 100.0 / totalNanos,
+				allocBean != null ? String.format("%.1fKiB", b / 1024.0 / div) : "n/a"));
+		}
+
+		return lines;
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.ferreusveritas.dynamictrees.worldgen;
 
 import com.ferreusveritas.dynamictrees.api.worldgen.IGroundFinder;
+import com.ferreusveritas.dynamictrees.util.PositionalRandom;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import com.ferreusveritas.dynamictrees.worldgen.BiomeDataBase.BiomeEntry;
 import net.minecraft.block.Block;
@@ -38,10 +39,34 @@ public class WorldGeneratorTrees implements IWorldGenerator {
 		}
 
 		protected ArrayList<Integer> findSubterraneanLayerHeights(World world, BlockPos start) {
+			ArrayList<Integer> layers = new ArrayList<>();
+			for (int y : getSubterraneanLayerHeights(world, start)) {
+				layers.add(y);
+			}
+			return layers;
+		}
+
+		/**
+		 * @return The heights of the subterranean layers in the column, shared through the {@link ColumnHeightCache}
+		 */
+		protected int[] getSubterraneanLayerHeights(World world, BlockPos start) {
+			ColumnHeightCache cache = ColumnHeightCache.get(world);
+			int[] layers = cache != null ? cache.getLayers(start.getX(), start.getZ()) : null;
+			if (layers == null) {
+				layers = scanSubterraneanLayerHeights(world, start);
+				if (cache != null) {
+					cache.setLayers(start.getX(), start.getZ(), layers);
+				}
+			}
+			return layers;
+		}
+
+		protected int[] scanSubterraneanLayerHeights(World world, BlockPos start) {
 
 			MutableBlockPos pos = new MutableBlockPos(new BlockPos(start.getX(), 0, start.getZ()));
 
-			ArrayList<Integer> layers = new ArrayList();
+			int[] layers = new int[8];
+			int numLayers = 0;
 
 			while (inNetherRange(pos)) {
 				while (!isReplaceable(world, pos) && inNetherRange(pos)) {
@@ -50,7 +75,10 @@ public class WorldGeneratorTrees implements IWorldGenerator {
 				while (isReplaceable(world, pos) && inNetherRange(pos)) {
 					pos.move(EnumFacing.DOWN);
 				} //Move down 1 block at a time until we hit not-air
-				layers.add(pos.getY()); //Record this position
+				if (numLayers == layers.length) {
+					layers = Arrays.copyOf(layers, numLayers * 2);
+				}
+				layers[numLayers++] = pos.getY(); //Record this position
 				pos.move(EnumFacing.UP, 16); //Move up 16 blocks
 				while (isReplaceable(world, pos) && inNetherRange(pos)) {
 					pos.move(EnumFacing.UP, 4);
@@ -58,19 +86,15 @@ public class WorldGeneratorTrees implements IWorldGenerator {
 			}
 
 			//Discard the last result as it's just the top of the biome(bedrock for nether)
-			if (layers.size() > 0) {
-				layers.remove(layers.size() - 1);
-			}
-
-			return layers;
+			return Arrays.copyOf(layers, Math.max(numLayers - 1, 0));
 		}
 
 		protected BlockPos findSubterraneanGround(World world, BlockPos start) {
-			ArrayList<Integer> layers = findSubterraneanLayerHeights(world, start);
-			if (layers.size() < 1) {
+			int[] layers = getSubterraneanLayerHeights(world, start);
+			if (layers.length < 1) {
 				return BlockPos.ORIGIN;
 			}
-			int y = layers.get(world.rand.nextInt(layers.size()));
+			int y = layers[new PositionalRandom(world.getSeed(), start, PositionalRandom.GROUND).nextInt(layers.length)];
 
 			return new BlockPos(start.getX(), y, start.getZ());
 		}
@@ -80,6 +104,23 @@ public class WorldGeneratorTrees implements IWorldGenerator {
 		}
 
 		protected BlockPos findOverworldGround(World world, BlockPos start) {
+			ColumnHeightCache cache = ColumnHeightCache.get(world);
+			if (cache == null) {
+				return scanOverworldGround(world, start);
+			}
+
+			int y = cache.getSurface(start.getX(), start.getZ());
+			if (y == ColumnHeightCache.UNKNOWN) {
+				BlockPos ground = scanOverworldGround(world, start);
+				y = ground == BlockPos.ORIGIN ? ColumnHeightCache.NONE : ground.getY();
+				cache.setSurface(start.getX(), start.getZ(), y);
+				return ground;
+			}
+
+			return y == ColumnHeightCache.NONE ? BlockPos.ORIGIN : new BlockPos(start.getX(), y, start.getZ());
+		}
+
+		protected BlockPos scanOverworldGround(World world, BlockPos start) {
 
 			Chunk chunk = world.getChunkFromBlockCoords(start);//We'll use a chunk for the search so we don't have to keep looking up the chunk for every block
 
@@ -149,7 +190,12 @@ public class WorldGeneratorTrees implements IWorldGenerator {
 		BiomeDataBase dbase = treeGenerator.getBiomeDataBase(world);
 		if (dbase != TreeGenerator.DIMENSIONBLACKLISTED) {
 			SafeChunkBounds safeBounds = new SafeChunkBounds(world, new ChunkPos(chunkX, chunkZ));//Area that is safe to place blocks during worldgen
-			treeGenerator.getCircleProvider().getPoissonDiscs(world, chunkX, 0, chunkZ).forEach(c -> treeGenerator.makeTree(world, dbase, c, new GroundFinder(), safeBounds));
+			ColumnHeightCache.begin(world, chunkX, chunkZ);
+			try {
+				treeGenerator.getCircleProvider().getPoissonDiscs(world, chunkX, 0, chunkZ).forEach(c -> treeGenerator.makeTree(world, dbase, c, new GroundFinder(), safeBounds));
+			} finally {
+				ColumnHeightCache.end();
+			}
 		}
 	}
 
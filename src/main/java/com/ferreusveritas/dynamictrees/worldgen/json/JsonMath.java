@@ -8,6 +8,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.biome.Biome;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.Random;
 
@@ -17,6 +18,19 @@ public class JsonMath {
 	public MathOperator rootOp;
 	private final Biome biome;
 
+	//Published whole through a volatile field since the chance selectors run on several threads
+	private volatile Compiled compiled;
+
+	private static final class Compiled {
+		final MathOperator op;
+		final MathProgram program;
+
+		Compiled(MathOperator op, MathProgram program) {
+			this.op = op;
+			this.program = program;
+		}
+	}
+
 	public JsonMath(JsonElement mathElement, Biome biome) {
 
 		this.biome = biome;
@@ -119,13 +133,24 @@ public class JsonMath {
 	}
 
 	public float apply(Random random, float noise) {
-		MathContext mc = new MathContext(noise, random);
-		return rootOp.apply(mc);
+		return getProgram().run(random, noise, null, 0, false);
 	}
 
 	public float apply(Random random, Species species, float radius) {
-		MathContext mc = new MathSpeciesContext(random, species, radius);
-		return rootOp.apply(mc);
+		return getProgram().run(random, 0.0f, species, radius, true);
+	}
+
+	/**
+	 * @return The operator tree compiled to a flat program.  Recompiled if the root operator has been replaced.
+	 */
+	public MathProgram getProgram() {
+		Compiled compiled = this.compiled;
+		MathOperator op = rootOp;
+		if (compiled == null || compiled.op != op) {
+			compiled = new Compiled(op, new MathProgram(op));//Fully built before it's published
+			this.compiled = compiled;
+		}
+		return compiled.program;
 	}
 
 	public static class MathContext {
@@ -472,6 +497,377 @@ public class JsonMath {
 
 	}
 
+	/**
+	 * A {@link MathOperator} tree flattened into a postfix program that runs over a primitive float stack.
+	 * <p>
+	 * Sub-expressions that don't depend on noise, randomness, radius or species are folded into constants at
+	 * compile time.  Conditionals are compiled to jumps so that only the selected branch is evaluated, which keeps
+	 * the sequence of random numbers drawn identical to the operator tree.  Running a program allocates nothing.
+	 * Programs are immutable once built and may be run from several threads at once.
+	 */
+	public static class MathProgram {
+
+		private static final int CONST = 0;
+		private static final int NOISE = 1;
+		private static final int RAND = 2;
+		private static final int RADIUS = 3;
+		private static final int ADD = 4;//operand: count
+		private static final int SUB = 5;//operand: count
+		private static final int MUL = 6;//operand: count
+		private static final int DIV = 7;//operand: count
+		private static final int MAX = 8;//operand: count
+		private static final int MIN = 9;//operand: count
+		private static final int MOD = 10;
+		private static final int JUMP = 11;//operand: target
+		private static final int JUMP_NOT_GT = 12;//operand: target. Pops two values
+		private static final int IF_SPECIES = 13;//operands: species index, else target, end target
+		private static final int DEBUG = 14;
+		private static final int CALL = 15;//operand: operator index. Fallback for foreign operators
+
+		private static final ThreadLocal<float[]> stacks = ThreadLocal.withInitial(() -> new float[16]);
+
+		private final int[] code;
+		private final float[] constants;
+		private final Object[] refs;
+		private final int maxDepth;
+
+		public MathProgram(MathOperator root) {
+			ProgramBuilder builder = new ProgramBuilder();
+			if (root != null) {
+				builder.compile(root);
+			} else {
+				builder.emitConst(0.0f);
+			}
+			code = Arrays.copyOf(builder.code, builder.codeLen);
+			constants = Arrays.copyOf(builder.constants, builder.constLen);
+			refs = builder.refs.toArray();
+			maxDepth = builder.maxDepth;
+		}
+
+		public int getLength() {
+			return code.length;
+		}
+
+		public float run(Random rand, float noise, Species species, float radius, boolean speciesContext) {
+			float[] stack = stacks.get();
+			if (stack.length < maxDepth) {
+				stack = new float[maxDepth];
+				stacks.set(stack);
+			}
+
+			int sp = 0;
+			int pc = 0;
+			int[] code = this.code;
+
+			while (pc < code.length) {
+				switch (code[pc]) {
+					case CONST:
+						stack[sp++] = constants[code[pc + 1]];
+						pc += 2;
+						break;
+					case NOISE:
+						stack[sp++] = noise;
+						pc++;
+						break;
+					case RAND:
+						stack[sp++] = rand.nextFloat();
+						pc++;
+						break;
+					case RADIUS:
+						stack[sp++] = speciesContext ? radius : 0;
+						pc++;
+						break;
+					case ADD: {
+						int n = code[pc + 1];
+						sp -= n;
+						float r;
+						if (n == 2) {
+							r = stack[sp] + stack[sp + 1];
+						} else {
+							r = 0;
+							for (int i = 0; i < n; i++) {
+								r += stack[sp + i];
+							}
+						}
+						stack[sp++] = r;
+						pc += 2;
+						break;
+					}
+					case SUB:
+					case DIV:
+					case MAX:
+					case MIN: {
+						int op = code[pc];
+						int n = code[pc + 1];
+						sp -= n;
+						float r = n > 0 ? stack[sp] : 0.0f;
+						for (int i = 1; i < n; i++) {
+							r = binary(op, r, stack[sp + i]);
+						}
+						stack[sp++] = r;
+						pc += 2;
+						break;
+					}
+					case MUL: {
+						int n = code[pc + 1];
+						sp -= n;
+						float r;
+						if (n == 2) {
+							r = stack[sp] * stack[sp + 1];
+						} else {
+							r = 1.0f;
+							for (int i = 0; i < n; i++) {
+								r *= stack[sp + i];
+							}
+						}
+						stack[sp++] = r;
+						pc += 2;
+						break;
+					}
+					case MOD:
+						sp--;
+						stack[sp - 1] = stack[sp - 1] % stack[sp];
+						pc++;
+						break;
+					case JUMP:
+						pc = code[pc + 1];
+						break;
+					case JUMP_NOT_GT:
+						sp -= 2;
+						pc = stack[sp] > stack[sp + 1] ? pc + 2 : code[pc + 1];
+						break;
+					case IF_SPECIES:
+						if (!speciesContext) {
+							stack[sp++] = 0.0f;
+							pc = code[pc + 3];
+						} else {
+							pc = species == refs[code[pc + 1]] ? pc + 4 : code[pc + 2];
+						}
+						break;
+					case DEBUG:
+						System.out.println("Json Debug Value: " + stack[sp - 1]);
+						pc++;
+						break;
+					case CALL: {
+						MathContext mc = speciesContext ? new MathSpeciesContext(rand, species, radius) : new MathContext(noise, rand);
+						//The operator may run another program on this thread so it gets a fresh stack of its own
+						stacks.remove();
+						float value;
+						try {
+							value = ((MathOperator) refs[code[pc + 1]]).apply(mc);
+						} finally {
+							stacks.set(stack);
+						}
+						stack[sp++] = value;
+						pc += 2;
+						break;
+					}
+					default:
+						throw new IllegalStateException("Invalid JsonMath instruction " + code[pc]);
+				}
+			}
+
+			return stack[0];
+		}
+
+		private static float binary(int op, float a, float b) {
+			switch (op) {
+				case SUB:
+					return a - b;
+				case DIV:
+					return a / b;
+				case MAX:
+					return Math.max(a, b);
+				case MIN:
+					return Math.min(a, b);
+				default:
+					return 0.0f;
+			}
+		}
+
+		//////////////////////////////
+		// Compiler
+		//////////////////////////////
+
+		/**
+		 * @return true if the operator evaluates to the same value regardless of the context it runs in
+		 */
+		private static boolean isConstant(MathOperator op) {
+			if (op instanceof Const || op instanceof Trees) {
+				return true;
+			}
+			MathOperator[] params = getParams(op);
+			if (params == null || op instanceof IfSpecies || op instanceof Debug) {
+				return false;
+			}
+			for (MathOperator param : params) {
+				if (!isConstant(param)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static MathOperator[] getParams(MathOperator op) {
+			if (op instanceof Adder) {
+				return ((Adder) op).functions;
+			} else if (op instanceof Subtractor) {
+				return ((Subtractor) op).functions;
+			} else if (op instanceof Multiplier) {
+				return ((Multiplier) op).functions;
+			} else if (op instanceof Divider) {
+				return ((Divider) op).functions;
+			} else if (op instanceof Modulus) {
+				return ((Modulus) op).functions;
+			} else if (op instanceof Maximum) {
+				return ((Maximum) op).functions;
+			} else if (op instanceof Minimum) {
+				return ((Minimum) op).functions;
+			} else if (op instanceof IfGreaterThan) {
+				return ((IfGreaterThan) op).functions;
+			} else if (op instanceof IfSpecies) {
+				return ((IfSpecies) op).functions;
+			} else if (op instanceof Debug) {
+				return ((Debug) op).functions;
+			}
+			return null;
+		}
+
+		/**
+		 * Holds the growing program while the operator tree is compiled.  Only the finished arrays are kept.
+		 */
+		private static class ProgramBuilder {
+
+			private int[] code = new int[16];
+			private int codeLen = 0;
+			private float[] constants = new float[4];
+			private int constLen = 0;
+			private final ArrayList<Object> refs = new ArrayList<>();
+			private int depth = 0;
+			private int maxDepth = 1;
+
+			private void compile(MathOperator op) {
+				if (isConstant(op)) {
+					emitConst(op.apply(new MathContext(0.0f, null)));//Constant operators never touch the context
+				} else if (op instanceof Noise) {
+					emit(NOISE);
+					push(1);
+				} else if (op instanceof Rand) {
+					emit(RAND);
+					push(1);
+				} else if (op instanceof Radius) {
+					emit(RADIUS);
+					push(1);
+				} else if (op instanceof Adder) {
+					compileNary(ADD, ((Adder) op).functions);
+				} else if (op instanceof Subtractor) {
+					compileNary(SUB, ((Subtractor) op).functions);
+				} else if (op instanceof Multiplier) {
+					compileNary(MUL, ((Multiplier) op).functions);
+				} else if (op instanceof Divider) {
+					compileNary(DIV, ((Divider) op).functions);
+				} else if (op instanceof Maximum) {
+					compileNary(MAX, ((Maximum) op).functions);
+				} else if (op instanceof Minimum) {
+					compileNary(MIN, ((Minimum) op).functions);
+				} else if (op instanceof Modulus) {
+					MathOperator[] f = ((Modulus) op).functions;
+					if (f.length == 2) {
+						compile(f[0]);
+						compile(f[1]);
+						emit(MOD);
+						depth--;
+					} else {
+						emitConst(0.0f);
+					}
+				} else if (op instanceof IfGreaterThan) {
+					MathOperator[] f = ((IfGreaterThan) op).functions;
+					if (f.length == 4) {
+						compile(f[0]);
+						compile(f[1]);
+						int jumpElse = emit(JUMP_NOT_GT, 0);
+						depth -= 2;
+						compile(f[2]);
+						int jumpEnd = emit(JUMP, 0);
+						depth--;
+						code[jumpElse + 1] = codeLen;
+						compile(f[3]);
+						code[jumpEnd + 1] = codeLen;
+					} else {
+						emitConst(0.0f);
+					}
+				} else if (op instanceof IfSpecies) {
+					IfSpecies ifSpecies = (IfSpecies) op;
+					MathOperator[] f = ifSpecies.functions;
+					if (f.length == 2) {
+						int test = emit(IF_SPECIES, addRef(ifSpecies.species), 0, 0);
+						compile(f[0]);
+						int jumpEnd = emit(JUMP, 0);
+						depth--;
+						code[test + 2] = codeLen;
+						compile(f[1]);
+						code[test + 3] = codeLen;
+						code[jumpEnd + 1] = codeLen;
+					} else {
+						emitConst(0.0f);
+					}
+				} else if (op instanceof Debug) {
+					MathOperator[] f = ((Debug) op).functions;
+					if (f.length >= 1) {
+						compile(f[0]);
+						emit(DEBUG);
+					} else {
+						emitConst(0.0f);
+					}
+				} else {
+					emit(CALL, addRef(op));
+					push(1);
+				}
+			}
+
+			private void compileNary(int opcode, MathOperator[] functions) {
+				for (MathOperator f : functions) {
+					compile(f);
+				}
+				emit(opcode, functions.length);
+				depth -= functions.length;
+				push(1);
+			}
+
+			private void emitConst(float value) {
+				if (constLen == constants.length) {
+					constants = Arrays.copyOf(constants, constLen * 2);
+				}
+				constants[constLen] = value;
+				emit(CONST, constLen++);
+				push(1);
+			}
+
+			private int addRef(Object ref) {
+				refs.add(ref);
+				return refs.size() - 1;
+			}
+
+			private void push(int n) {
+				depth += n;
+				maxDepth = Math.max(maxDepth, depth);
+			}
+
+			private int emit(int... words) {
+				if (codeLen + words.length > code.length) {
+					code = Arrays.copyOf(code, Math.max(code.length * 2, codeLen + words.length));
+				}
+				int start = codeLen;
+				for (int word : words) {
+					code[codeLen++] = word;
+				}
+				return start;
+			}
+
+		}
+
+	}
+
 	public enum EnumMathFunction {
 		CONST,
 		NOISE,